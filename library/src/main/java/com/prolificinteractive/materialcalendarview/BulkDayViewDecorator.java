@@ -0,0 +1,23 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.support.annotation.NonNull;
+
+/**
+ * A {@linkplain DayViewDecorator} that can answer for every day of a page at once.
+ * <p/>
+ * The calendar calls {@linkplain #shouldDecorate(CalendarDay, boolean[])} once per page,
+ * instead of {@linkplain #shouldDecorate(CalendarDay)} once per day.
+ * This lets you answer with a single range query over your data.
+ * {@linkplain #shouldDecorate(CalendarDay)} must still be implemented and agree with the bulk answer.
+ */
+public interface BulkDayViewDecorator extends DayViewDecorator {
+
+    /**
+     * Determine which of a run of consecutive days should be decorated
+     *
+     * @param firstDay  the first day to check
+     * @param decorated set {@code decorated[n]} to true if the day {@code n} days after
+     *                  {@code firstDay} should be decorated. Every entry starts as false.
+     */
+    void shouldDecorate(@NonNull CalendarDay firstDay, @NonNull boolean[] decorated);
+}
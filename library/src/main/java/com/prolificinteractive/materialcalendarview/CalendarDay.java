@@ -11,7 +11,7 @@ import java.util.Date;
 /**
  * An imputable representation of a day on a calendar
  */
-public final class CalendarDay implements Parcelable {
+public final class CalendarDay implements Parcelable, Comparable<CalendarDay> {
 
     /**
      * Get a new instance set to today
@@ -20,11 +20,15 @@ public final class CalendarDay implements Parcelable {
      */
     @NonNull
     public static CalendarDay today() {
-        return from(CalendarUtils.getInstance());
+        return fromEpochDay(CalendarMath.today());
     }
 
     /**
-     * Get a new instance set to the specified day
+     * Get an instance set to the specified day.
+     * Instances are immutable and recently used days are shared,
+     * so repeated calls for the same day may return the same instance.
+     * Days outside of the month roll over like a lenient {@linkplain Calendar},
+     * so February 30th is the same day as March 2nd or 1st.
      *
      * @param year  new instance's year
      * @param month new instance's month as defined by {@linkplain java.util.Calendar}
@@ -33,7 +37,7 @@ public final class CalendarDay implements Parcelable {
      */
     @NonNull
     public static CalendarDay from(int year, int month, int day) {
-        return new CalendarDay(year, month, day);
+        return CalendarDayPool.get(CalendarMath.toEpochDay(year, month, day));
     }
 
     /**
@@ -66,10 +70,27 @@ public final class CalendarDay implements Parcelable {
         return from(CalendarUtils.getInstance(date));
     }
 
+    /**
+     * Get a new instance from a packed epoch day
+     *
+     * @param epochDay number of days since 1970-01-01, as returned by {@linkplain #toEpochDay()}
+     * @return CalendarDay set to the specified date
+     * @see #toEpochDay()
+     */
+    @NonNull
+    public static CalendarDay fromEpochDay(int epochDay) {
+        return CalendarDayPool.get(epochDay);
+    }
+
     private final int year;
     private final int month;
     private final int day;
 
+    /**
+     * Packed representation of this day, see {@linkplain #toEpochDay()}
+     */
+    private final int epochDay;
+
     /**
      * Cache for calls to {@linkplain #getCalendar()}
      */
@@ -111,9 +132,18 @@ public final class CalendarDay implements Parcelable {
      */
     @Deprecated
     public CalendarDay(int year, int month, int day) {
-        this.year = year;
-        this.month = month;
-        this.day = day;
+        this(CalendarMath.toEpochDay(year, month, day));
+    }
+
+    /**
+     * Fields are always normalized from the epoch day, so equality agrees with {@linkplain #compareTo(CalendarDay)}
+     */
+    CalendarDay(int epochDay) {
+        int civil = CalendarMath.toCivil(epochDay);
+        this.year = CalendarMath.getYear(civil);
+        this.month = CalendarMath.getMonth(civil);
+        this.day = CalendarMath.getDay(civil);
+        this.epochDay = epochDay;
     }
 
     /**
@@ -152,6 +182,43 @@ public final class CalendarDay implements Parcelable {
         return day;
     }
 
+    /**
+     * Get this day packed into a single int, counted as days since 1970-01-01.
+     * Dates use the proleptic Gregorian calendar, so this does not match
+     * {@linkplain java.util.GregorianCalendar} before the Gregorian cutover in 1582.
+     *
+     * @return the number of days since 1970-01-01, negative for earlier days
+     * @see #fromEpochDay(int)
+     */
+    public int toEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Get a new instance offset from this day
+     *
+     * @param days number of days to add, may be negative
+     * @return CalendarDay that is the given number of days from this one
+     */
+    @NonNull
+    public CalendarDay plusDays(int days) {
+        if (days == 0) {
+            return this;
+        }
+        return fromEpochDay(epochDay + days);
+    }
+
+    /**
+     * Get the number of days between two days
+     *
+     * @param from the first day
+     * @param to   the second day
+     * @return the number of days from {@code from} to {@code to}, negative if {@code to} is earlier
+     */
+    public static int daysBetween(@NonNull CalendarDay from, @NonNull CalendarDay to) {
+        return to.epochDay - from.epochDay;
+    }
+
     /**
      * Get this day as a {@linkplain Date}
      *
@@ -218,11 +285,7 @@ public final class CalendarDay implements Parcelable {
         if (other == null) {
             throw new IllegalArgumentException("other cannot be null");
         }
-        if (year == other.year) {
-            return ((month == other.month) ? (day < other.day) : (month < other.month));
-        } else {
-            return year < other.year;
-        }
+        return epochDay < other.epochDay;
     }
 
     /**
@@ -235,12 +298,21 @@ public final class CalendarDay implements Parcelable {
         if (other == null) {
             throw new IllegalArgumentException("other cannot be null");
         }
+        return epochDay > other.epochDay;
+    }
 
-        if (year == other.year) {
-            return (month == other.month) ? (day > other.day) : (month > other.month);
-        } else {
-            return year > other.year;
+    /**
+     * Compare two days chronologically
+     *
+     * @param other the other day to compare to
+     * @return negative if this is before other, positive if after, and zero if the same day
+     */
+    @Override
+    public int compareTo(@NonNull CalendarDay other) {
+        if (other == null) {
+            throw new IllegalArgumentException("other cannot be null");
         }
+        return epochDay < other.epochDay ? -1 : (epochDay == other.epochDay ? 0 : 1);
     }
 
     @Override
@@ -294,7 +366,7 @@ public final class CalendarDay implements Parcelable {
 
     public static final Creator<CalendarDay> CREATOR = new Creator<CalendarDay>() {
         public CalendarDay createFromParcel(Parcel in) {
-            return new CalendarDay(in);
+            return from(in.readInt(), in.readInt(), in.readInt());
         }
 
         public CalendarDay[] newArray(int size) {
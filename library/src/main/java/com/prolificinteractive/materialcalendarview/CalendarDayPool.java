@@ -0,0 +1,53 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.support.annotation.NonNull;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock free cache of {@linkplain CalendarDay} instances so repeated requests for the
+ * same day share one object.
+ * <p/>
+ * Slots are picked directly from the epoch day, so a window of {@linkplain #SIZE} consecutive days
+ * never collide. On a collision the newer day replaces the older one. Racing threads may each
+ * create an instance for the same day, which is harmless since instances are immutable.
+ */
+final class CalendarDayPool {
+
+    /**
+     * Must be a power of two. Covers a little over five years of consecutive days
+     */
+    static final int SIZE = 2048;
+
+    private static final int MASK = SIZE - 1;
+
+    private static final AtomicReferenceArray<CalendarDay> POOL = new AtomicReferenceArray<>(SIZE);
+
+    private CalendarDayPool() {
+    }
+
+    /**
+     * @param epochDay the number of days since 1970-01-01
+     * @return a shared instance for the specified date
+     */
+    @NonNull
+    static CalendarDay get(int epochDay) {
+        int slot = epochDay & MASK;
+        CalendarDay cached = POOL.get(slot);
+        if (cached != null && cached.toEpochDay() == epochDay) {
+            return cached;
+        }
+        CalendarDay created = new CalendarDay(epochDay);
+        POOL.set(slot, created);
+        return created;
+    }
+
+    /**
+     * Drop all cached instances
+     */
+    static void clear() {
+        for (int i = 0; i < SIZE; i++) {
+            POOL.set(i, null);
+        }
+    }
+}
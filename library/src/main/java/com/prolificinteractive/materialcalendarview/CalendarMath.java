@@ -0,0 +1,156 @@
+package com.prolificinteractive.materialcalendarview;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * Pure arithmetic date calculations, used instead of {@linkplain Calendar} on hot paths.
+ * <p/>
+ * Days are counted as epoch days, the number of days since 1970-01-01.
+ * Months use the zero based values defined by {@linkplain Calendar}.
+ * All calculations use the proleptic Gregorian calendar, which matches
+ * {@linkplain java.util.GregorianCalendar} for every date after the 1582 cutover.
+ */
+final class CalendarMath {
+
+    static final int DAYS_IN_WEEK = 7;
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    /**
+     * Number of days in a 400 year Gregorian cycle
+     */
+    private static final int DAYS_PER_CYCLE = 146097;
+
+    /**
+     * Days from 0000-03-01 to 1970-01-01
+     */
+    private static final int DAYS_0000_TO_1970 = 719468;
+
+    /**
+     * 1970-01-01 was a Thursday
+     */
+    private static final int EPOCH_DAY_OF_WEEK = Calendar.THURSDAY;
+
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private CalendarMath() {
+    }
+
+    /**
+     * @param year the year
+     * @return true if the year has 366 days
+     */
+    static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * @param year  the year
+     * @param month the month as defined by {@linkplain Calendar}
+     * @return the number of days in the month
+     */
+    static int getDaysInMonth(int year, int month) {
+        if (month == Calendar.FEBRUARY && isLeapYear(year)) {
+            return 29;
+        }
+        return DAYS_IN_MONTH[month];
+    }
+
+    /**
+     * @param epochDay day to check
+     * @return the day of the week as defined by {@linkplain Calendar#DAY_OF_WEEK}
+     */
+    static int getDayOfWeek(int epochDay) {
+        return floorMod(epochDay + EPOCH_DAY_OF_WEEK - Calendar.SUNDAY, DAYS_IN_WEEK) + Calendar.SUNDAY;
+    }
+
+    /**
+     * Convert a civil date into an epoch day. Out of range months and days are rolled over.
+     *
+     * @param year  the year
+     * @param month the month as defined by {@linkplain Calendar}
+     * @param day   the day of the month
+     * @return the number of days since 1970-01-01
+     */
+    static int toEpochDay(int year, int month, int day) {
+        if (month < Calendar.JANUARY || month > Calendar.DECEMBER) {
+            int yearDelta = floorDiv(month, 12);
+            year += yearDelta;
+            month -= yearDelta * 12;
+        }
+        //Shift the year to start in March, so leap days are at the end
+        if (month <= Calendar.FEBRUARY) {
+            year -= 1;
+        }
+        int era = floorDiv(year, 400);
+        int yoe = year - era * 400;
+        int mp = month > Calendar.FEBRUARY ? month - 2 : month + 10;
+        int doy = (153 * mp + 2) / 5 + day - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * DAYS_PER_CYCLE + doe - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Convert an epoch day into a packed civil date.
+     * Use {@linkplain #getYear(int)}, {@linkplain #getMonth(int)}, and {@linkplain #getDay(int)}
+     * to read the result.
+     *
+     * @param epochDay the number of days since 1970-01-01
+     * @return the packed civil date
+     */
+    static int toCivil(int epochDay) {
+        int z = epochDay + DAYS_0000_TO_1970;
+        int era = floorDiv(z, DAYS_PER_CYCLE);
+        int doe = z - era * DAYS_PER_CYCLE;
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int day = doy - (153 * mp + 2) / 5 + 1;
+        //mp counts from March, convert back to a Calendar month
+        int month = mp < 10 ? mp + 2 : mp - 10;
+        int year = yoe + era * 400 + (month <= Calendar.FEBRUARY ? 1 : 0);
+        return (year << 9) | (month << 5) | day;
+    }
+
+    static int getYear(int civil) {
+        return civil >> 9;
+    }
+
+    static int getMonth(int civil) {
+        return (civil >> 5) & 0xF;
+    }
+
+    static int getDay(int civil) {
+        return civil & 0x1F;
+    }
+
+    /**
+     * @return the epoch day for today in the default time zone
+     */
+    static int today() {
+        long now = System.currentTimeMillis();
+        long local = now + TimeZone.getDefault().getOffset(now);
+        return (int) floorDiv(local, MILLIS_PER_DAY);
+    }
+
+    private static int floorDiv(int x, int y) {
+        int q = x / y;
+        if ((x % y != 0) && ((x ^ y) < 0)) {
+            q--;
+        }
+        return q;
+    }
+
+    private static long floorDiv(long x, long y) {
+        long q = x / y;
+        if ((x % y != 0) && ((x ^ y) < 0)) {
+            q--;
+        }
+        return q;
+    }
+
+    private static int floorMod(int x, int y) {
+        return x - floorDiv(x, y) * y;
+    }
+}
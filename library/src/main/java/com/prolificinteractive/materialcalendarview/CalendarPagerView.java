@@ -0,0 +1,467 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.annotation.SuppressLint;
+import android.support.annotation.NonNull;
+import android.util.AttributeSet;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.prolificinteractive.materialcalendarview.MaterialCalendarView.ShowOtherDates;
+import com.prolificinteractive.materialcalendarview.format.DayFormatter;
+import com.prolificinteractive.materialcalendarview.format.WeekDayFormatter;
+
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static com.prolificinteractive.materialcalendarview.MaterialCalendarView.SHOW_DEFAULTS;
+import static com.prolificinteractive.materialcalendarview.MaterialCalendarView.showOtherMonths;
+
+/**
+ * One page of a {@linkplain MaterialCalendarView}: a header of the days of the week
+ * above a grid of {@value #DAY_COUNT} days. The header is left out when the calendar
+ * shows a single header above the pager.
+ * <p/>
+ * This keeps the state of the page and works out what each cell shows,
+ * subclasses only decide how the cells are rendered.
+ */
+@SuppressLint("ViewConstructor")
+abstract class CalendarPagerView extends ViewGroup {
+
+    protected static final int DEFAULT_DAYS_IN_WEEK = 7;
+    protected static final int DEFAULT_MAX_WEEKS = 6;
+    protected static final int DEFAULT_MONTH_TILE_HEIGHT = DEFAULT_MAX_WEEKS + 1;
+    protected static final int DAY_COUNT = DEFAULT_DAYS_IN_WEEK * DEFAULT_MAX_WEEKS;
+
+    protected final MaterialCalendarView mcv;
+
+    private CalendarDay month;
+    private int firstDayOfWeek;
+    private final CalendarDay[] days = new CalendarDay[DAY_COUNT];
+    private MonthGrid grid;
+    private final boolean showWeekDays;
+
+    private Integer selectionColor = null;
+    private Integer dateTextAppearance = null;
+    private Integer weekDayTextAppearance = null;
+    private WeekDayFormatter weekDayFormatter = null;
+    private DayFormatter dayFormatter = null;
+    private boolean selectionEnabled = true;
+
+    private CalendarDay minDate = null;
+    private CalendarDay maxDate = null;
+
+    @ShowOtherDates
+    private int showOtherDates = SHOW_DEFAULTS;
+
+    private final PageDecorations decorations;
+
+    /**
+     * Subclasses must create their cells from {@linkplain #getDay(int)} and
+     * {@linkplain #getDayOfWeekForColumn(int)}, no hooks are called during construction.
+     *
+     * @param showWeekDays false if the page only has the grid of days, and no week day header
+     */
+    CalendarPagerView(@NonNull MaterialCalendarView view, CalendarDay month, int firstDayOfWeek, boolean showWeekDays) {
+        super(view.getContext());
+        this.mcv = view;
+        this.month = month;
+        this.firstDayOfWeek = firstDayOfWeek;
+        this.showWeekDays = showWeekDays;
+
+        setClipChildren(false);
+        setClipToPadding(false);
+
+        fillDays();
+        decorations = new PageDecorations(new PageDecorations.Target() {
+            @Override
+            public void applyFacade(int index, DayViewFacade facade) {
+                CalendarPagerView.this.applyFacade(index, facade);
+            }
+        }, DAY_COUNT, getFirstEpochDay());
+    }
+
+    /**
+     * Called when the days shown in the grid change
+     */
+    protected abstract void onDaysChanged();
+
+    /**
+     * Called when the first day of the week, and so the header, changes
+     */
+    protected abstract void onWeekDaysChanged();
+
+    /**
+     * @param index          index of the cell
+     * @param showOtherDates flags for which other days are shown
+     * @param inRange        true if the day is between the minimum and maximum dates
+     * @param inMonth        true if the day is in the month of this page
+     */
+    protected abstract void setupDay(int index, @ShowOtherDates int showOtherDates, boolean inRange, boolean inMonth);
+
+    protected abstract void setDayChecked(int index, boolean checked);
+
+    /**
+     * @param index  index of the cell
+     * @param facade the combined decorations of the day, only valid during this call
+     */
+    protected abstract void applyFacade(int index, DayViewFacade facade);
+
+    protected abstract void applySelectionColor(int color);
+
+    protected abstract void applyDateTextAppearance(int taId);
+
+    protected abstract void applyWeekDayTextAppearance(int taId);
+
+    protected abstract void applyWeekDayFormatter(WeekDayFormatter formatter);
+
+    protected abstract void applyDayFormatter(DayFormatter formatter);
+
+    protected abstract void applySelectionEnabled(boolean selectionEnabled);
+
+    void setDayViewDecorators(List<DecoratorResult> results) {
+        decorations.setResults(results, getFirstEpochDay());
+    }
+
+    /**
+     * @param executor executor to resolve decorators on, or null to resolve them immediately
+     */
+    void setDecoratorExecutor(Executor executor) {
+        decorations.setExecutor(executor);
+    }
+
+    /**
+     * @param profiler profiler to record the cost of decorators to, or null to not measure them
+     */
+    void setDecoratorProfiler(DecoratorProfiler profiler) {
+        decorations.setProfiler(profiler);
+    }
+
+    /**
+     * @param cache grids shared with other pages, or null to always ask the decorators
+     */
+    void setDecorationCache(DecorationCache cache) {
+        decorations.setCache(cache);
+    }
+
+    /**
+     * Resolve one decorator again after its decorations or days changed
+     *
+     * @param index  index of the decorator in the results
+     * @param result the new result for the decorator
+     */
+    void invalidateDecorator(int index, DecoratorResult result) {
+        decorations.invalidateResult(index, result);
+    }
+
+    /**
+     * Resolve every decorator again for some days only
+     *
+     * @param fromEpochDay first day to update
+     * @param toEpochDay   last day to update
+     */
+    void invalidateDecorators(int fromEpochDay, int toEpochDay) {
+        decorations.invalidateRange(fromEpochDay, toEpochDay);
+    }
+
+    /**
+     * Rebind this view to show a different month, reusing all of the cells.
+     * Settings that decide which days are shown are taken here, so the cells are only updated once.
+     * The caller is responsible for reapplying the selection and decorators afterwards.
+     *
+     * @param month          first day of the month to show
+     * @param firstDayOfWeek first day of the week
+     * @param showOtherDates flags for which other days are shown
+     * @param minDate        the earliest day that can be selected, may be null
+     * @param maxDate        the latest day that can be selected, may be null
+     */
+    void bind(@NonNull CalendarDay month, int firstDayOfWeek, @ShowOtherDates int showOtherDates,
+              CalendarDay minDate, CalendarDay maxDate) {
+        this.month = month;
+        if (this.firstDayOfWeek != firstDayOfWeek) {
+            this.firstDayOfWeek = firstDayOfWeek;
+            onWeekDaysChanged();
+        }
+        this.showOtherDates = showOtherDates;
+        this.minDate = minDate;
+        this.maxDate = maxDate;
+        fillDays();
+        onDaysChanged();
+        updateUi();
+    }
+
+    public void setWeekDayTextAppearance(int taId) {
+        if (weekDayTextAppearance != null && weekDayTextAppearance == taId) {
+            return;
+        }
+        weekDayTextAppearance = taId;
+        applyWeekDayTextAppearance(taId);
+    }
+
+    public void setDateTextAppearance(int taId) {
+        if (dateTextAppearance != null && dateTextAppearance == taId) {
+            return;
+        }
+        dateTextAppearance = taId;
+        applyDateTextAppearance(taId);
+    }
+
+    public void setShowOtherDates(@ShowOtherDates int showFlags) {
+        boolean relayout = showOtherMonths(showFlags) != showOtherMonths(showOtherDates);
+        this.showOtherDates = showFlags;
+        if (relayout) {
+            //Showing other months changes which day is in the first cell
+            setupDays();
+        }
+        updateUi();
+    }
+
+    public void setSelectionEnabled(boolean selectionEnabled) {
+        if (this.selectionEnabled == selectionEnabled) {
+            return;
+        }
+        this.selectionEnabled = selectionEnabled;
+        applySelectionEnabled(selectionEnabled);
+    }
+
+    public boolean isSelectionEnabled() {
+        return selectionEnabled;
+    }
+
+    public CalendarDay getMonth() {
+        return month;
+    }
+
+    /**
+     * @return true if this page has its own row of week days above the days
+     */
+    public boolean isShowingWeekDays() {
+        return showWeekDays;
+    }
+
+    /**
+     * @param index index of the cell, from the top left
+     * @return the day shown in the cell
+     */
+    public CalendarDay getDay(int index) {
+        return days[index];
+    }
+
+    public void setSelectionColor(int color) {
+        if (selectionColor != null && selectionColor == color) {
+            return;
+        }
+        selectionColor = color;
+        applySelectionColor(color);
+    }
+
+    /**
+     * @param column column of the grid, starting at 0
+     * @return the day of the week as defined by {@linkplain Calendar#DAY_OF_WEEK}
+     */
+    protected int getDayOfWeekForColumn(int column) {
+        return ((firstDayOfWeek - Calendar.SUNDAY + column) % DEFAULT_DAYS_IN_WEEK) + Calendar.SUNDAY;
+    }
+
+    public void setFirstDayOfWeek(int dayOfWeek) {
+        if (this.firstDayOfWeek == dayOfWeek) {
+            return;
+        }
+        this.firstDayOfWeek = dayOfWeek;
+
+        onWeekDaysChanged();
+        setupDays();
+        updateUi();
+    }
+
+    private void fillDays() {
+        grid = MonthGrid.get(month, firstDayOfWeek, showOtherMonths(showOtherDates));
+        grid.copyDays(days);
+    }
+
+    private void setupDays() {
+        fillDays();
+        onDaysChanged();
+        //Decorations belong to days, not cells
+        decorations.setFirstEpochDay(getFirstEpochDay());
+    }
+
+    private int getFirstEpochDay() {
+        return grid.getFirstEpochDay();
+    }
+
+    public int getFirstDayOfWeek() {
+        return firstDayOfWeek;
+    }
+
+    public void setWeekDayFormatter(WeekDayFormatter formatter) {
+        if (weekDayFormatter == formatter) {
+            return;
+        }
+        weekDayFormatter = formatter;
+        applyWeekDayFormatter(formatter);
+    }
+
+    public void setDayFormatter(DayFormatter formatter) {
+        if (dayFormatter == formatter) {
+            return;
+        }
+        dayFormatter = formatter;
+        applyDayFormatter(formatter);
+    }
+
+    public void setMinimumDate(CalendarDay minDate) {
+        this.minDate = minDate;
+        updateUi();
+    }
+
+    public void setMaximumDate(CalendarDay maxDate) {
+        this.maxDate = maxDate;
+        updateUi();
+    }
+
+    public void setSelectedDates(DateSelection selection) {
+        //Visible days can be from the previous, current, or next month
+        int monthKey = SelectionStore.monthKey(month);
+        int previousMask = selection.getMonthMask(monthKey - 1);
+        int currentMask = selection.getMonthMask(monthKey);
+        int nextMask = selection.getMonthMask(monthKey + 1);
+        int firstOfMonth = grid.getLeadingDays();
+        int firstOfNextMonth = firstOfMonth + grid.getDaysInMonth();
+        for (int i = 0; i < DAY_COUNT; i++) {
+            int mask = i < firstOfMonth ? previousMask
+                    : (i < firstOfNextMonth ? currentMask : nextMask);
+            setDayChecked(i, SelectionStore.isDaySet(mask, days[i].getDay()));
+        }
+        postInvalidate();
+    }
+
+    private void updateUi() {
+        for (int i = 0; i < DAY_COUNT; i++) {
+            setupDay(i, showOtherDates, days[i].isInRange(minDate, maxDate), grid.isInMonth(i));
+        }
+        postInvalidate();
+    }
+
+    /*
+     * Custom ViewGroup Code
+     */
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected LayoutParams generateDefaultLayoutParams() {
+        return new LayoutParams();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void onMeasure(final int widthMeasureSpec, final int heightMeasureSpec) {
+        final int specWidthSize = MeasureSpec.getSize(widthMeasureSpec);
+        final int specWidthMode = MeasureSpec.getMode(widthMeasureSpec);
+        final int specHeightSize = MeasureSpec.getSize(heightMeasureSpec);
+        final int specHeightMode = MeasureSpec.getMode(heightMeasureSpec);
+
+        //We expect to be somewhere inside a MaterialCalendarView, which should measure EXACTLY
+        if (specHeightMode == MeasureSpec.UNSPECIFIED || specWidthMode == MeasureSpec.UNSPECIFIED) {
+            throw new IllegalStateException("MonthView should never be left to decide it's size");
+        }
+
+        //The spec width should be a correct multiple
+        final int measureTileSize = specWidthSize / DEFAULT_DAYS_IN_WEEK;
+
+        //Just use the spec sizes
+        setMeasuredDimension(specWidthSize, specHeightSize);
+
+        int count = getChildCount();
+        for (int i = 0; i < count; i++) {
+            final View child = getChildAt(i);
+
+            int childWidthMeasureSpec = MeasureSpec.makeMeasureSpec(
+                    measureTileSize,
+                    MeasureSpec.EXACTLY
+            );
+
+            int childHeightMeasureSpec = MeasureSpec.makeMeasureSpec(
+                    measureTileSize,
+                    MeasureSpec.EXACTLY
+            );
+
+            child.measure(childWidthMeasureSpec, childHeightMeasureSpec);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
+        final int count = getChildCount();
+
+        final int parentLeft = 0;
+        final int parentTop = 0;
+
+        int childTop = parentTop;
+        int childLeft = parentLeft;
+
+        for (int i = 0; i < count; i++) {
+            final View child = getChildAt(i);
+
+            final int width = child.getMeasuredWidth();
+            final int height = child.getMeasuredHeight();
+
+            child.layout(childLeft, childTop, childLeft + width, childTop + height);
+
+            childLeft += width;
+
+            //We should warp every so many children
+            if (i % DEFAULT_DAYS_IN_WEEK == (DEFAULT_DAYS_IN_WEEK - 1)) {
+                childLeft = parentLeft;
+                childTop += height;
+            }
+
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LayoutParams generateLayoutParams(AttributeSet attrs) {
+        return new LayoutParams();
+    }
+
+    @Override
+    public boolean shouldDelayChildPressedState() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean checkLayoutParams(ViewGroup.LayoutParams p) {
+        return p instanceof LayoutParams;
+    }
+
+    @Override
+    protected ViewGroup.LayoutParams generateLayoutParams(ViewGroup.LayoutParams p) {
+        return new LayoutParams();
+    }
+
+    /**
+     * Simple layout params class for pages, since every child is the same size
+     */
+    protected static class LayoutParams extends MarginLayoutParams {
+
+        /**
+         * {@inheritDoc}
+         */
+        public LayoutParams() {
+            super(WRAP_CONTENT, WRAP_CONTENT);
+        }
+    }
+}
@@ -82,4 +82,29 @@ public class CalendarUtils {
     public static int getDayOfWeek(Calendar calendar) {
         return calendar.get(DAY_OF_WEEK);
     }
+
+    /**
+     * @param day day to check
+     * @return the day of the week as defined by {@linkplain Calendar#DAY_OF_WEEK}
+     */
+    public static int getDayOfWeek(@NonNull CalendarDay day) {
+        return CalendarMath.getDayOfWeek(day.toEpochDay());
+    }
+
+    /**
+     * @param year  the year
+     * @param month the month as defined by {@linkplain Calendar}
+     * @return the number of days in the month
+     */
+    public static int getDaysInMonth(int year, int month) {
+        return CalendarMath.getDaysInMonth(year, month);
+    }
+
+    /**
+     * @param year the year
+     * @return true if the year is a leap year in the Gregorian calendar
+     */
+    public static boolean isLeapYear(int year) {
+        return CalendarMath.isLeapYear(year);
+    }
 }
@@ -0,0 +1,49 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.content.res.Resources;
+import android.graphics.drawable.Drawable;
+import android.support.annotation.NonNull;
+
+/**
+ * The drawables one day made from decorator drawables, by constant state.
+ * <p/>
+ * Decorators hand the same drawable to every day, and drawables from the same resource
+ * share a constant state even after {@linkplain DayViewDecorator#decorate(DayViewFacade)} runs again.
+ * A day can then reuse the instance it made last time instead of making a new one on every apply.
+ */
+final class ConstantStateCache {
+
+    /**
+     * Number of drawables kept for a day
+     */
+    private static final int SIZE = 4;
+
+    private final Drawable.ConstantState[] states = new Drawable.ConstantState[SIZE];
+    private final Drawable[] drawables = new Drawable[SIZE];
+    private int next = 0;
+
+    /**
+     * @param drawable drawable from a decorator
+     * @param res      resources to make new drawables with
+     * @return an instance of the drawable for this day only,
+     * or the drawable itself if it has no constant state to make copies from
+     */
+    @NonNull
+    Drawable get(@NonNull Drawable drawable, Resources res) {
+        Drawable.ConstantState state = drawable.getConstantState();
+        if (state == null) {
+            //Custom drawables do not have to support copies, and must not match an empty slot
+            return drawable;
+        }
+        for (int i = 0; i < SIZE; i++) {
+            if (states[i] == state) {
+                return drawables[i];
+            }
+        }
+        Drawable instance = state.newDrawable(res);
+        states[next] = state;
+        drawables[next] = instance;
+        next = (next + 1) % SIZE;
+        return instance;
+    }
+}
@@ -0,0 +1,84 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Storage for the selected days of the calendar
+ *
+ * @see SelectionStore
+ * @see RangeSelection
+ */
+interface DateSelection {
+
+    /**
+     * @param day day to select
+     * @return true if the selection changed
+     */
+    boolean add(@NonNull CalendarDay day);
+
+    /**
+     * @param day day to unselect
+     * @return true if the selection changed
+     */
+    boolean remove(@NonNull CalendarDay day);
+
+    /**
+     * @param day day to check
+     * @return true if the day is selected
+     */
+    boolean contains(@NonNull CalendarDay day);
+
+    /**
+     * @param monthKey key from {@linkplain SelectionStore#monthKey(int, int)}
+     * @return the mask of selected days in the month, 0 if none
+     * @see SelectionStore#isDaySet(int, int)
+     */
+    int getMonthMask(int monthKey);
+
+    void clear();
+
+    /**
+     * @return the number of selected days
+     */
+    int size();
+
+    boolean isEmpty();
+
+    /**
+     * @return the earliest selected day, null if nothing is selected
+     */
+    @Nullable
+    CalendarDay getFirst();
+
+    /**
+     * @return the latest selected day, null if nothing is selected
+     */
+    @Nullable
+    CalendarDay getLast();
+
+    /**
+     * @return the most recently selected day if it is still selected,
+     * otherwise the latest selected day. Null if nothing is selected.
+     */
+    @Nullable
+    CalendarDay getLastSelected();
+
+    /**
+     * Unselect every day outside of a range in a single pass
+     *
+     * @param min the earliest day to keep, null for no minimum
+     * @param max the latest day to keep, null for no maximum
+     * @return the days that were unselected, in chronological order
+     */
+    @NonNull
+    List<CalendarDay> retainRange(@Nullable CalendarDay min, @Nullable CalendarDay max);
+
+    /**
+     * @return all selected days in chronological order
+     */
+    @NonNull
+    List<CalendarDay> getDates();
+}
@@ -0,0 +1,114 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.support.annotation.NonNull;
+
+import java.util.Collection;
+
+/**
+ * A {@linkplain DayViewDecorator} for a known set of days.
+ * <p/>
+ * The days are indexed as ranges, so instead of asking {@linkplain #shouldDecorate(CalendarDay)}
+ * about every day, the calendar resolves a whole month with a single lookup.
+ * Prefer this over implementing {@linkplain DayViewDecorator} directly when your days
+ * can be listed ahead of time, especially when you have many decorators.
+ * <p/>
+ * If you change the days after adding the decorator to a {@linkplain MaterialCalendarView},
+ * call {@linkplain MaterialCalendarView#invalidateDecorators()} to apply the changes.
+ */
+public abstract class DateSetDecorator implements DayViewDecorator {
+
+    private final IntervalSet dates = new IntervalSet();
+
+    public DateSetDecorator() {
+    }
+
+    /**
+     * @param dates days to decorate, null entries are ignored
+     */
+    public DateSetDecorator(@NonNull Collection<CalendarDay> dates) {
+        addDates(dates);
+    }
+
+    /**
+     * @param day day to decorate
+     */
+    public void addDate(@NonNull CalendarDay day) {
+        int epochDay = day.toEpochDay();
+        dates.add(epochDay, epochDay);
+    }
+
+    /**
+     * @param days days to decorate, null entries are ignored
+     */
+    public void addDates(@NonNull Collection<CalendarDay> days) {
+        for (CalendarDay day : days) {
+            if (day != null) {
+                addDate(day);
+            }
+        }
+    }
+
+    /**
+     * Decorate every day between two days, inclusive.
+     * This takes the same space for a range of any length.
+     *
+     * @param first first day of the range
+     * @param last  last day of the range
+     */
+    public void addRange(@NonNull CalendarDay first, @NonNull CalendarDay last) {
+        int start = first.toEpochDay();
+        int end = last.toEpochDay();
+        dates.add(Math.min(start, end), Math.max(start, end));
+    }
+
+    /**
+     * @param day day to stop decorating
+     */
+    public void removeDate(@NonNull CalendarDay day) {
+        dates.remove(day.toEpochDay());
+    }
+
+    /**
+     * Replace the decorated days
+     *
+     * @param days days to decorate, null entries are ignored
+     */
+    public void setDates(@NonNull Collection<CalendarDay> days) {
+        dates.clear();
+        addDates(days);
+    }
+
+    /**
+     * Stop decorating every day
+     */
+    public void clear() {
+        dates.clear();
+    }
+
+    /**
+     * @return the number of decorated days
+     */
+    public int size() {
+        return dates.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * This is answered from the set of days and cannot be overridden,
+     * because the calendar usually resolves the set directly without calling this.
+     */
+    @Override
+    public final boolean shouldDecorate(CalendarDay day) {
+        return day != null && dates.contains(day.toEpochDay());
+    }
+
+    /**
+     * @param firstEpochDay first day of the window
+     * @param dayCount      number of days in the window, at most 64
+     * @return a mask with bit {@code n} set when day {@code firstEpochDay + n} is decorated
+     */
+    long getDayMask(int firstEpochDay, int dayCount) {
+        return dates.getDayMask(firstEpochDay, dayCount);
+    }
+}
@@ -25,7 +25,8 @@ import android.widget.CheckedTextView;
 import com.prolificinteractive.materialcalendarview.MaterialCalendarView.ShowOtherDates;
 import com.prolificinteractive.materialcalendarview.format.DayFormatter;
 
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static com.prolificinteractive.materialcalendarview.MaterialCalendarView.showDecoratedDisabled;
 import static com.prolificinteractive.materialcalendarview.MaterialCalendarView.showOtherMonths;
@@ -43,7 +44,10 @@ class DayView extends CheckedTextView {
     private final int fadeTime;
     private Drawable customBackground = null;
     private Drawable selectionDrawable;
+    private final ConstantStateCache customBackgrounds = new ConstantStateCache();
+    private final ConstantStateCache selectionDrawables = new ConstantStateCache();
     private DayFormatter formatter = DayFormatter.DEFAULT;
+    private final FacadeFingerprint appliedFacade = new FacadeFingerprint();
 
     private boolean isInRange = true;
     private boolean isInMonth = true;
@@ -69,7 +73,7 @@ class DayView extends CheckedTextView {
 
     public void setDay(CalendarDay date) {
         this.date = date;
-        setText(getLabel());
+        updateLabel();
     }
 
     /**
@@ -79,18 +83,24 @@ class DayView extends CheckedTextView {
      */
     public void setDayFormatter(DayFormatter formatter) {
         this.formatter = formatter == null ? DayFormatter.DEFAULT : formatter;
-        CharSequence currentLabel = getText();
-        Object[] spans = null;
-        if (currentLabel instanceof Spanned) {
-            spans = ((Spanned) currentLabel).getSpans(0, currentLabel.length(), Object.class);
-        }
-        SpannableString newLabel = new SpannableString(getLabel());
-        if (spans != null) {
-            for (Object span : spans) {
-                newLabel.setSpan(span, 0, newLabel.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
-            }
+        updateLabel();
+    }
+
+    /**
+     * Set the label with the spans of the last applied facade
+     */
+    private void updateLabel() {
+        String label = getLabel();
+        int spanCount = appliedFacade.getSpanCount();
+        if (spanCount == 0) {
+            setText(label);
+            return;
+        }
+        SpannableString formattedLabel = new SpannableString(label);
+        for (int i = 0; i < spanCount; i++) {
+            formattedLabel.setSpan(appliedFacade.getSpan(i), 0, label.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
         }
-        setText(newLabel);
+        setText(formattedLabel);
     }
 
     @NonNull
@@ -110,7 +120,7 @@ class DayView extends CheckedTextView {
         if (drawable == null) {
             this.selectionDrawable = null;
         } else {
-            this.selectionDrawable = drawable.getConstantState().newDrawable(getResources());
+            this.selectionDrawable = selectionDrawables.get(drawable, getResources());
         }
         regenerateBackground();
     }
@@ -122,7 +132,7 @@ class DayView extends CheckedTextView {
         if (drawable == null) {
             this.customBackground = null;
         } else {
-            this.customBackground = drawable.getConstantState().newDrawable(getResources());
+            this.customBackground = customBackgrounds.get(drawable, getResources());
         }
         invalidate();
     }
@@ -135,11 +145,24 @@ class DayView extends CheckedTextView {
         boolean enabled = isInMonth && isInRange && !isDecoratedDisabled;
         super.setEnabled(enabled);
 
+        boolean shouldBeVisible = shouldBeVisible(showOtherDates, isInMonth, isInRange, isDecoratedDisabled);
+        setVisibility(shouldBeVisible ? View.VISIBLE : View.INVISIBLE);
+    }
+
+    /**
+     * @return true if a day in this state should be shown at all
+     */
+    static boolean shouldBeVisible(
+            @ShowOtherDates int showOtherDates,
+            boolean isInMonth,
+            boolean isInRange,
+            boolean isDecoratedDisabled
+    ) {
         boolean showOtherMonths = showOtherMonths(showOtherDates);
         boolean showOutOfRange = showOutOfRange(showOtherDates) || showOtherMonths;
         boolean showDecoratedDisabled = showDecoratedDisabled(showOtherDates);
 
-        boolean shouldBeVisible = enabled;
+        boolean shouldBeVisible = isInMonth && isInRange && !isDecoratedDisabled;
 
         if (!isInMonth && showOtherMonths) {
             shouldBeVisible = true;
@@ -153,7 +176,7 @@ class DayView extends CheckedTextView {
             shouldBeVisible |= isInMonth && isInRange;
         }
 
-        setVisibility(shouldBeVisible ? View.VISIBLE : View.INVISIBLE);
+        return shouldBeVisible;
     }
 
     protected void setupSelection(@ShowOtherDates int showOtherDates, boolean inRange, boolean inMonth) {
@@ -184,7 +207,49 @@ class DayView extends CheckedTextView {
         }
     }
 
-    private static Drawable generateBackground(int color, int fadeTime) {
+    /**
+     * Number of selection backgrounds to keep, one per selection color in use
+     */
+    private static final int MAX_CACHED_BACKGROUNDS = 8;
+
+    /**
+     * Selection backgrounds by color and fade time, shared by every calendar in the process.
+     * What a background is made of depends on the API level, which never changes in a process.
+     */
+    private static final LinkedHashMap<Long, Drawable.ConstantState> BACKGROUND_CACHE =
+            new LinkedHashMap<Long, Drawable.ConstantState>(MAX_CACHED_BACKGROUNDS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Drawable.ConstantState> eldest) {
+                    return size() > MAX_CACHED_BACKGROUNDS;
+                }
+            };
+
+    //Last background handed out, every day of a calendar asks for the same one in a row
+    private static long lastBackgroundKey = 0;
+    private static Drawable.ConstantState lastBackground = null;
+
+    /**
+     * @param color    selection color
+     * @param fadeTime fade duration when leaving a state
+     * @return a new instance of the selection background, sharing its constant state with other days
+     */
+    static Drawable generateBackground(int color, int fadeTime) {
+        final long key = ((long) color << 32) | (fadeTime & 0xFFFFFFFFL);
+        synchronized (BACKGROUND_CACHE) {
+            if (lastBackground == null || lastBackgroundKey != key) {
+                Drawable.ConstantState state = BACKGROUND_CACHE.get(key);
+                if (state == null) {
+                    state = createBackground(color, fadeTime).getConstantState();
+                    BACKGROUND_CACHE.put(key, state);
+                }
+                lastBackgroundKey = key;
+                lastBackground = state;
+            }
+            return lastBackground.newDrawable();
+        }
+    }
+
+    private static Drawable createBackground(int color, int fadeTime) {
         StateListDrawable drawable = new StateListDrawable();
         drawable.setExitFadeDuration(fadeTime);
         drawable.addState(new int[]{android.R.attr.state_checked}, generateCircleDrawable(color));
@@ -218,28 +283,24 @@ class DayView extends CheckedTextView {
     }
 
     /**
+     * Apply the facade to us. Only what changed since the last facade is applied again.
+     *
      * @param facade apply the facade to us
      */
     void applyFacade(DayViewFacade facade) {
-        this.isDecoratedDisabled = facade.areDaysDisabled();
-        setEnabled();
-
-        setCustomBackground(facade.getBackgroundDrawable());
-        setSelectionDrawable(facade.getSelectionDrawable());
-
-        // Facade has spans
-        List<DayViewFacade.Span> spans = facade.getSpans();
-        if (!spans.isEmpty()) {
-            String label = getLabel();
-            SpannableString formattedLabel = new SpannableString(getLabel());
-            for (DayViewFacade.Span span : spans) {
-                formattedLabel.setSpan(span.span, 0, label.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
-            }
-            setText(formattedLabel);
+        int changes = appliedFacade.update(facade);
+        if ((changes & FacadeFingerprint.CHANGED_DISABLED) != 0) {
+            this.isDecoratedDisabled = facade.areDaysDisabled();
+            setEnabled();
+        }
+        if ((changes & FacadeFingerprint.CHANGED_BACKGROUND) != 0) {
+            setCustomBackground(facade.getBackgroundDrawable());
+        }
+        if ((changes & FacadeFingerprint.CHANGED_SELECTION) != 0) {
+            setSelectionDrawable(facade.getSelectionDrawable());
         }
-        // Reset in case it was customized previously
-        else {
-            setText(getLabel());
+        if ((changes & FacadeFingerprint.CHANGED_SPANS) != 0) {
+            updateLabel();
         }
     }
 }
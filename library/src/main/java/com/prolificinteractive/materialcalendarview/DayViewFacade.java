@@ -3,20 +3,23 @@ package com.prolificinteractive.materialcalendarview;
 import android.graphics.drawable.Drawable;
 import android.support.annotation.NonNull;
 
-import java.util.Collections;
-import java.util.LinkedList;
-import java.util.List;
-
 /**
  * Abstraction layer to help in decorating Day views
  */
 public class DayViewFacade {
 
+    private static final int INITIAL_SPAN_CAPACITY = 4;
+
     private boolean isDecorated;
 
     private Drawable backgroundDrawable = null;
     private Drawable selectionDrawable = null;
-    private final LinkedList<Span> spans = new LinkedList<>();
+    /**
+     * Spans in the order they were added, only the first {@linkplain #spanCount} are in use.
+     * Reused across {@linkplain #reset()} so accumulating decorators does not allocate.
+     */
+    private Object[] spans = new Object[INITIAL_SPAN_CAPACITY];
+    private int spanCount = 0;
     private boolean daysDisabled = false;
 
     DayViewFacade() {
@@ -57,12 +60,21 @@ public class DayViewFacade {
      * @param span text span instance
      */
     public void addSpan(@NonNull Object span) {
-        if (spans != null) {
-            this.spans.add(new Span(span));
+        if (span != null) {
+            ensureSpanCapacity(spanCount + 1);
+            spans[spanCount++] = span;
             isDecorated = true;
         }
     }
 
+    private void ensureSpanCapacity(int capacity) {
+        if (spans.length < capacity) {
+            Object[] newSpans = new Object[Math.max(capacity, spans.length * 2)];
+            System.arraycopy(spans, 0, newSpans, 0, spanCount);
+            spans = newSpans;
+        }
+    }
+
     /**
      * <p>Set days to be in a disabled state, or re-enabled.</p>
      * <p/>
@@ -79,7 +91,11 @@ public class DayViewFacade {
     void reset() {
         backgroundDrawable = null;
         selectionDrawable = null;
-        spans.clear();
+        //Drop references so spans of old decorators can be collected
+        for (int i = 0; i < spanCount; i++) {
+            spans[i] = null;
+        }
+        spanCount = 0;
         isDecorated = false;
         daysDisabled = false;
     }
@@ -96,7 +112,11 @@ public class DayViewFacade {
         if (backgroundDrawable != null) {
             other.setBackgroundDrawable(backgroundDrawable);
         }
-        other.spans.addAll(spans);
+        if (spanCount > 0) {
+            other.ensureSpanCapacity(other.spanCount + spanCount);
+            System.arraycopy(spans, 0, other.spans, other.spanCount, spanCount);
+            other.spanCount += spanCount;
+        }
         other.isDecorated |= this.isDecorated;
         other.daysDisabled = daysDisabled;
     }
@@ -113,8 +133,19 @@ public class DayViewFacade {
         return backgroundDrawable;
     }
 
-    List<Span> getSpans() {
-        return Collections.unmodifiableList(spans);
+    /**
+     * @return number of spans added
+     */
+    int getSpanCount() {
+        return spanCount;
+    }
+
+    /**
+     * @param index index of the span, less than {@linkplain #getSpanCount()}
+     * @return the span at that index, in the order spans were added
+     */
+    Object getSpan(int index) {
+        return spans[index];
     }
 
     /**
@@ -125,13 +156,4 @@ public class DayViewFacade {
     public boolean areDaysDisabled() {
         return daysDisabled;
     }
-
-    static class Span {
-
-        final Object span;
-
-        public Span(Object span) {
-            this.span = span;
-        }
-    }
 }
@@ -0,0 +1,90 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.support.annotation.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The days each decorator applies to on recently shown grids, so a page showing one of
+ * them again does not ask the decorators again.
+ * <p/>
+ * Entries are keyed by the first day of the grid, and belong to a generation of the decorators.
+ * The generation changes whenever the decorators, or the days they apply to, may have changed,
+ * which drops every entry.
+ */
+final class DecorationCache {
+
+    /**
+     * Number of grids to remember, enough to swipe back and forth between a few months
+     */
+    static final int DEFAULT_SIZE = 12;
+
+    private final LinkedHashMap<Integer, long[]> entries;
+    private int generation = 0;
+
+    DecorationCache() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * @param size number of grids to remember
+     */
+    DecorationCache(final int size) {
+        entries = new LinkedHashMap<Integer, long[]>(size, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, long[]> eldest) {
+                return size() > size;
+            }
+        };
+    }
+
+    /**
+     * The decorators changed, forget every grid
+     */
+    void invalidate() {
+        generation++;
+        entries.clear();
+    }
+
+    /**
+     * @return the current generation of the decorators
+     */
+    int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @param firstEpochDay  first day of the grid
+     * @param decoratorCount number of decorators on the page
+     * @return the mask of each decorator, or null if the grid is not known
+     */
+    @Nullable
+    long[] get(int firstEpochDay, int decoratorCount) {
+        long[] masks = entries.get(firstEpochDay);
+        if (masks == null || masks.length != decoratorCount) {
+            return null;
+        }
+        return masks.clone();
+    }
+
+    /**
+     * @param firstEpochDay first day of the grid
+     * @param generation    generation of the decorators the masks were resolved for
+     * @param masks         the mask of each decorator
+     */
+    void put(int firstEpochDay, int generation, long[] masks) {
+        if (generation != this.generation) {
+            //Resolved for decorators that changed since
+            return;
+        }
+        entries.put(firstEpochDay, masks.clone());
+    }
+
+    /**
+     * @return number of grids remembered
+     */
+    int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,110 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.support.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Resolves which days of a page a decorator applies to, as a bitmask of the grid.
+ * Bit {@code n} of a mask is set when the decorator applies to the {@code n}th day of the grid.
+ * <p/>
+ * Decorators are asked in the cheapest way they support: an indexed lookup for
+ * {@linkplain DateSetDecorator}, one call for {@linkplain BulkDayViewDecorator},
+ * and one call per day for any other {@linkplain DayViewDecorator}.
+ */
+final class DecoratorMasks {
+
+    /**
+     * Largest grid a mask can describe
+     */
+    static final int MAX_DAYS = 64;
+
+    private DecoratorMasks() {
+    }
+
+    /**
+     * @param decorator     decorator to resolve
+     * @param firstEpochDay first day of the grid
+     * @param scratch       reused buffer for bulk decorators, its length is the number of days in the grid
+     * @return mask of the days the decorator applies to
+     */
+    static long getMask(@NonNull DayViewDecorator decorator, int firstEpochDay, @NonNull boolean[] scratch) {
+        return getMask(decorator, firstEpochDay, scratch, -1L);
+    }
+
+    /**
+     * Resolve only some days of the grid. Per day decorators are only asked about those days.
+     *
+     * @param decorator     decorator to resolve
+     * @param firstEpochDay first day of the grid
+     * @param scratch       reused buffer for bulk decorators, its length is the number of days in the grid
+     * @param days          mask of the days to resolve
+     * @return mask of the days the decorator applies to, limited to {@code days}
+     */
+    static long getMask(@NonNull DayViewDecorator decorator, int firstEpochDay, @NonNull boolean[] scratch, long days) {
+        final int dayCount = scratch.length;
+        if (dayCount > MAX_DAYS) {
+            throw new IllegalArgumentException("Grid is larger than " + MAX_DAYS + " days");
+        }
+
+        if (decorator instanceof DateSetDecorator) {
+            return ((DateSetDecorator) decorator).getDayMask(firstEpochDay, dayCount) & days;
+        }
+
+        long mask = 0;
+        if (decorator instanceof BulkDayViewDecorator) {
+            Arrays.fill(scratch, false);
+            ((BulkDayViewDecorator) decorator).shouldDecorate(CalendarDay.fromEpochDay(firstEpochDay), scratch);
+            for (int i = 0; i < dayCount; i++) {
+                if (scratch[i]) {
+                    mask |= 1L << i;
+                }
+            }
+        } else {
+            for (int i = 0; i < dayCount; i++) {
+                if (isSet(days, i) && decorator.shouldDecorate(CalendarDay.fromEpochDay(firstEpochDay + i))) {
+                    mask |= 1L << i;
+                }
+            }
+        }
+        return mask & days;
+    }
+
+    /**
+     * @param firstEpochDay first day of the grid
+     * @param dayCount      number of days in the grid
+     * @param fromEpochDay  first day of the range
+     * @param toEpochDay    last day of the range
+     * @return mask of the days of the grid that are in the range
+     */
+    static long getRangeMask(int firstEpochDay, int dayCount, int fromEpochDay, int toEpochDay) {
+        int lo = Math.max(fromEpochDay, firstEpochDay) - firstEpochDay;
+        int hi = Math.min(toEpochDay, firstEpochDay + dayCount - 1) - firstEpochDay;
+        if (lo > hi) {
+            return 0;
+        }
+        return (-1L >>> (63 - hi)) & (-1L << lo);
+    }
+
+    /**
+     * @param decorator decorator to resolve
+     * @param days      mask of the days to resolve
+     * @return number of calls {@linkplain #getMask(DayViewDecorator, int, boolean[], long)} makes
+     * to the decorator, with a lookup of a {@linkplain DateSetDecorator} counting as one call
+     */
+    static int getCallCount(@NonNull DayViewDecorator decorator, long days) {
+        if (decorator instanceof DateSetDecorator || decorator instanceof BulkDayViewDecorator) {
+            return 1;
+        }
+        return Long.bitCount(days);
+    }
+
+    /**
+     * @param mask  a mask from {@linkplain #getMask(DayViewDecorator, int, boolean[])}
+     * @param index index of the day in the grid
+     * @return true if the day is set in the mask
+     */
+    static boolean isSet(long mask, int index) {
+        return (mask & (1L << index)) != 0;
+    }
+}
@@ -0,0 +1,184 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.support.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Measures how much time decorators take, to find the ones that slow down paging.
+ * <p/>
+ * Set one with {@linkplain MaterialCalendarView#setDecoratorProfiler(DecoratorProfiler)},
+ * then read {@linkplain #getDecoratorStats()} and the page totals whenever you want to log them.
+ * Nothing is measured without a profiler. With one, measuring costs two
+ * {@linkplain System#nanoTime()} calls per decorator per page, so it can stay on in production.
+ * <p/>
+ * A profiler can be read from any thread. It can be shared between calendars,
+ * in which case it sums their numbers.
+ */
+public final class DecoratorProfiler {
+
+    /**
+     * What one decorator cost, at the time of the snapshot
+     */
+    public static final class DecoratorStats {
+
+        private final DayViewDecorator decorator;
+        private long decorateCount;
+        private long decorateNanos;
+        private long shouldDecorateCount;
+        private long shouldDecorateNanos;
+
+        private DecoratorStats(DayViewDecorator decorator) {
+            this.decorator = decorator;
+        }
+
+        private DecoratorStats(DecoratorStats other) {
+            this.decorator = other.decorator;
+            this.decorateCount = other.decorateCount;
+            this.decorateNanos = other.decorateNanos;
+            this.shouldDecorateCount = other.shouldDecorateCount;
+            this.shouldDecorateNanos = other.shouldDecorateNanos;
+        }
+
+        /**
+         * @return the decorator measured
+         */
+        @NonNull
+        public DayViewDecorator getDecorator() {
+            return decorator;
+        }
+
+        /**
+         * @return number of calls to {@linkplain DayViewDecorator#decorate(DayViewFacade)}
+         */
+        public long getDecorateCount() {
+            return decorateCount;
+        }
+
+        /**
+         * @return time spent in {@linkplain DayViewDecorator#decorate(DayViewFacade)}, in nanoseconds
+         */
+        public long getDecorateNanos() {
+            return decorateNanos;
+        }
+
+        /**
+         * The number of times the decorator was asked which days to decorate.
+         * A {@linkplain BulkDayViewDecorator} answers for a whole page with one call,
+         * and looking up the days of a {@linkplain DateSetDecorator} also counts as one call.
+         *
+         * @return number of calls deciding whether to decorate days
+         */
+        public long getShouldDecorateCount() {
+            return shouldDecorateCount;
+        }
+
+        /**
+         * @return time spent deciding which days to decorate, in nanoseconds
+         */
+        public long getShouldDecorateNanos() {
+            return shouldDecorateNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "DecoratorStats{" + decorator.getClass().getName()
+                    + " decorate=" + decorateCount + "/" + decorateNanos + "ns"
+                    + " shouldDecorate=" + shouldDecorateCount + "/" + shouldDecorateNanos + "ns}";
+        }
+    }
+
+    private final IdentityHashMap<DayViewDecorator, DecoratorStats> stats = new IdentityHashMap<>();
+    private final ArrayList<DecoratorStats> orderedStats = new ArrayList<>();
+    private long pageApplyCount;
+    private long pageApplyNanos;
+    private long maxPageApplyNanos;
+    private long daysApplied;
+
+    public DecoratorProfiler() {
+    }
+
+    /**
+     * @return a copy of what each decorator cost so far, in the order decorators were first measured
+     */
+    @NonNull
+    public synchronized List<DecoratorStats> getDecoratorStats() {
+        ArrayList<DecoratorStats> snapshot = new ArrayList<>(orderedStats.size());
+        for (DecoratorStats decoratorStats : orderedStats) {
+            snapshot.add(new DecoratorStats(decoratorStats));
+        }
+        return Collections.unmodifiableList(snapshot);
+    }
+
+    /**
+     * @return number of times decorations were applied to the days of a page
+     */
+    public synchronized long getPageApplyCount() {
+        return pageApplyCount;
+    }
+
+    /**
+     * @return time spent applying decorations to the days of pages, in nanoseconds
+     */
+    public synchronized long getPageApplyNanos() {
+        return pageApplyNanos;
+    }
+
+    /**
+     * @return the longest time applying decorations to the days of a page took, in nanoseconds
+     */
+    public synchronized long getMaxPageApplyNanos() {
+        return maxPageApplyNanos;
+    }
+
+    /**
+     * @return number of days decorations were applied to
+     */
+    public synchronized long getDaysApplied() {
+        return daysApplied;
+    }
+
+    /**
+     * Forget everything measured so far
+     */
+    public synchronized void reset() {
+        stats.clear();
+        orderedStats.clear();
+        pageApplyCount = 0;
+        pageApplyNanos = 0;
+        maxPageApplyNanos = 0;
+        daysApplied = 0;
+    }
+
+    synchronized void recordDecorate(DayViewDecorator decorator, long nanos) {
+        DecoratorStats decoratorStats = getStats(decorator);
+        decoratorStats.decorateCount++;
+        decoratorStats.decorateNanos += nanos;
+    }
+
+    synchronized void recordShouldDecorate(DayViewDecorator decorator, int calls, long nanos) {
+        DecoratorStats decoratorStats = getStats(decorator);
+        decoratorStats.shouldDecorateCount += calls;
+        decoratorStats.shouldDecorateNanos += nanos;
+    }
+
+    synchronized void recordPageApply(int days, long nanos) {
+        pageApplyCount++;
+        pageApplyNanos += nanos;
+        maxPageApplyNanos = Math.max(maxPageApplyNanos, nanos);
+        daysApplied += days;
+    }
+
+    private DecoratorStats getStats(DayViewDecorator decorator) {
+        DecoratorStats decoratorStats = stats.get(decorator);
+        if (decoratorStats == null) {
+            decoratorStats = new DecoratorStats(decorator);
+            stats.put(decorator, decoratorStats);
+            orderedStats.add(decoratorStats);
+        }
+        return decoratorStats;
+    }
+}
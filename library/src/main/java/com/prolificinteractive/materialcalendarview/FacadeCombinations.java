@@ -0,0 +1,78 @@
+package com.prolificinteractive.materialcalendarview;
+
+import java.util.List;
+
+/**
+ * The merged facade of each combination of decorators seen on a page.
+ * <p/>
+ * A combination is a mask with bit {@code j} set when decorator {@code j} applies to a day.
+ * Pages usually show only a handful of combinations, so decorators are merged once per
+ * combination instead of once per day, and days with the same combination share the facade.
+ * The facades only depend on the decorators, so they stay valid when the days change.
+ */
+final class FacadeCombinations {
+
+    /**
+     * Most decorators a combination can hold
+     */
+    static final int MAX_DECORATORS = 64;
+
+    private long[] keys = new long[8];
+    private DayViewFacade[] facades = new DayViewFacade[8];
+    private int size = 0;
+
+    /**
+     * @param combination mask of the decorators that apply
+     * @param results     decorators of the page
+     * @return the decorators of the combination merged in order, shared by every day with them
+     */
+    DayViewFacade get(long combination, List<DecoratorResult> results) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == combination) {
+                return facades[i];
+            }
+        }
+
+        if (size == keys.length) {
+            int capacity = size * 2;
+            long[] newKeys = new long[capacity];
+            DayViewFacade[] newFacades = new DayViewFacade[capacity];
+            System.arraycopy(keys, 0, newKeys, 0, size);
+            System.arraycopy(facades, 0, newFacades, 0, size);
+            keys = newKeys;
+            facades = newFacades;
+        }
+
+        //Facades dropped by clear() are reused
+        DayViewFacade facade = facades[size];
+        if (facade == null) {
+            facade = new DayViewFacade();
+        } else {
+            facade.reset();
+        }
+        for (int j = 0; j < results.size(); j++) {
+            if ((combination & (1L << j)) != 0) {
+                results.get(j).result.applyTo(facade);
+            }
+        }
+
+        keys[size] = combination;
+        facades[size] = facade;
+        size++;
+        return facade;
+    }
+
+    /**
+     * Forget every combination, after the decorators changed
+     */
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return number of combinations seen since the last {@linkplain #clear()}
+     */
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,84 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.graphics.drawable.Drawable;
+
+/**
+ * The decorations last applied to a day, so applying the same decorations again can be skipped.
+ * <p/>
+ * Drawables and spans are compared by identity. Decorators hand out the same instances
+ * every time they are applied, until {@linkplain DayViewDecorator#decorate(DayViewFacade)} runs again.
+ */
+final class FacadeFingerprint {
+
+    static final int CHANGED_BACKGROUND = 1;
+    static final int CHANGED_SELECTION = 1 << 1;
+    static final int CHANGED_SPANS = 1 << 2;
+    static final int CHANGED_DISABLED = 1 << 3;
+
+    private Drawable backgroundDrawable = null;
+    private Drawable selectionDrawable = null;
+    private Object[] spans = new Object[2];
+    private int spanCount = 0;
+    private boolean daysDisabled = false;
+
+    /**
+     * Remember the decorations of a facade
+     *
+     * @param facade the facade about to be applied
+     * @return flags for what differs from the last facade, 0 if nothing does
+     */
+    int update(DayViewFacade facade) {
+        int changes = 0;
+        if (backgroundDrawable != facade.getBackgroundDrawable()) {
+            backgroundDrawable = facade.getBackgroundDrawable();
+            changes |= CHANGED_BACKGROUND;
+        }
+        if (selectionDrawable != facade.getSelectionDrawable()) {
+            selectionDrawable = facade.getSelectionDrawable();
+            changes |= CHANGED_SELECTION;
+        }
+        if (daysDisabled != facade.areDaysDisabled()) {
+            daysDisabled = facade.areDaysDisabled();
+            changes |= CHANGED_DISABLED;
+        }
+        if (!hasSpans(facade)) {
+            setSpans(facade);
+            changes |= CHANGED_SPANS;
+        }
+        return changes;
+    }
+
+    private boolean hasSpans(DayViewFacade other) {
+        if (other.getSpanCount() != spanCount) {
+            return false;
+        }
+        for (int i = 0; i < spanCount; i++) {
+            if (other.getSpan(i) != spans[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setSpans(DayViewFacade other) {
+        int count = other.getSpanCount();
+        if (spans.length < count) {
+            spans = new Object[count];
+        }
+        for (int i = 0; i < count; i++) {
+            spans[i] = other.getSpan(i);
+        }
+        for (int i = count; i < spanCount; i++) {
+            spans[i] = null;
+        }
+        spanCount = count;
+    }
+
+    int getSpanCount() {
+        return spanCount;
+    }
+
+    Object getSpan(int index) {
+        return spans[index];
+    }
+}
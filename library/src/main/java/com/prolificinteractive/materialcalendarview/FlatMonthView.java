@@ -0,0 +1,611 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.annotation.SuppressLint;
+import android.content.res.ColorStateList;
+import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+import android.os.Bundle;
+import android.support.annotation.NonNull;
+import android.support.v4.view.ViewCompat;
+import android.support.v4.view.accessibility.AccessibilityNodeInfoCompat;
+import android.support.v4.widget.ExploreByTouchHelper;
+import android.text.Layout;
+import android.text.SpannableString;
+import android.text.Spanned;
+import android.text.StaticLayout;
+import android.text.TextPaint;
+import android.text.style.TextAppearanceSpan;
+import android.util.TypedValue;
+import android.view.MotionEvent;
+import android.view.SoundEffectConstants;
+import android.view.accessibility.AccessibilityEvent;
+
+import com.prolificinteractive.materialcalendarview.MaterialCalendarView.ShowOtherDates;
+import com.prolificinteractive.materialcalendarview.format.DayFormatter;
+import com.prolificinteractive.materialcalendarview.format.WeekDayFormatter;
+
+import java.text.DateFormat;
+import java.util.List;
+
+/**
+ * Display a month by drawing the week day header, unless it is shown above the pager,
+ * and every day on a single canvas.
+ * <p/>
+ * This has no child views, so measuring and laying out a page is constant time.
+ * Touches are mapped to days from their position, and each day is exposed to
+ * accessibility services as a virtual view.
+ * Decorations are applied with the same rules as {@linkplain DayView}.
+ */
+@SuppressLint("ViewConstructor")
+class FlatMonthView extends CalendarPagerView {
+
+    private static final int STATE_ENABLED = 1;
+    private static final int STATE_CHECKED = 1 << 1;
+    private static final int STATE_PRESSED = 1 << 2;
+
+    /**
+     * Drawable states for every combination of the flags above
+     */
+    private static final int[][] CELL_STATES = new int[8][];
+
+    static {
+        for (int flags = 0; flags < CELL_STATES.length; flags++) {
+            int[] state = new int[Integer.bitCount(flags)];
+            int n = 0;
+            if ((flags & STATE_ENABLED) != 0) {
+                state[n++] = android.R.attr.state_enabled;
+            }
+            if ((flags & STATE_CHECKED) != 0) {
+                state[n++] = android.R.attr.state_checked;
+            }
+            if ((flags & STATE_PRESSED) != 0) {
+                state[n] = android.R.attr.state_pressed;
+            }
+            CELL_STATES[flags] = state;
+        }
+    }
+
+    private static final int DEFAULT_TEXT_SIZE_SP = 14;
+
+    private final int fadeTime;
+    private final TextPaint datePaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final TextPaint weekDayPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    /**
+     * Colors of the theme, which a {@linkplain DayView} uses until a text appearance sets some
+     */
+    private final ColorStateList defaultTextColors;
+    private ColorStateList dateColors = null;
+    private ColorStateList weekDayColors = null;
+    private int selectionColor = Color.GRAY;
+    private WeekDayFormatter weekDayFormatter = WeekDayFormatter.DEFAULT;
+    private DayFormatter dayFormatter = DayFormatter.DEFAULT;
+    @ShowOtherDates
+    private int showOtherDates = MaterialCalendarView.SHOW_DEFAULTS;
+
+    private final CharSequence[] weekDayLabels = new CharSequence[DEFAULT_DAYS_IN_WEEK];
+
+    private final CharSequence[] labels = new CharSequence[DAY_COUNT];
+    private final FacadeFingerprint[] appliedFacades = new FacadeFingerprint[DAY_COUNT];
+    /**
+     * Layouts for labels with spans, built when first drawn
+     */
+    private final Layout[] layouts = new Layout[DAY_COUNT];
+    private int layoutWidth = 0;
+
+    private final boolean[] checked = new boolean[DAY_COUNT];
+    private final boolean[] inRange = new boolean[DAY_COUNT];
+    private final boolean[] inMonth = new boolean[DAY_COUNT];
+    private final boolean[] decoratedDisabled = new boolean[DAY_COUNT];
+    private final boolean[] enabled = new boolean[DAY_COUNT];
+    private final boolean[] visible = new boolean[DAY_COUNT];
+
+    private final Drawable[] selectionBackgrounds = new Drawable[DAY_COUNT];
+    private final boolean[] customSelection = new boolean[DAY_COUNT];
+    private final Drawable[] customBackgrounds = new Drawable[DAY_COUNT];
+    private final ConstantStateCache[] selectionCaches = new ConstantStateCache[DAY_COUNT];
+    private final ConstantStateCache[] customBackgroundCaches = new ConstantStateCache[DAY_COUNT];
+
+    private int pressedIndex = -1;
+    private final Rect tempRect = new Rect();
+
+    private final DayAccessibilityHelper accessibilityHelper;
+    private DateFormat descriptionFormat = null;
+
+    public FlatMonthView(@NonNull MaterialCalendarView view, CalendarDay month, int firstDayOfWeek, boolean showWeekDays) {
+        super(view, month, firstDayOfWeek, showWeekDays);
+        setWillNotDraw(false);
+
+        fadeTime = getResources().getInteger(android.R.integer.config_shortAnimTime);
+
+        TypedArray a = getContext().obtainStyledAttributes(new int[]{android.R.attr.textColorPrimary});
+        try {
+            defaultTextColors = a.getColorStateList(0);
+        } finally {
+            a.recycle();
+        }
+        dateColors = defaultTextColors;
+        weekDayColors = defaultTextColors;
+
+        float textSize = TypedValue.applyDimension(
+                TypedValue.COMPLEX_UNIT_SP, DEFAULT_TEXT_SIZE_SP, getResources().getDisplayMetrics()
+        );
+        datePaint.setTextSize(textSize);
+        weekDayPaint.setTextSize(textSize);
+
+        for (int i = 0; i < DAY_COUNT; i++) {
+            setSelectionBackground(i, DayView.generateBackground(selectionColor, fadeTime));
+            appliedFacades[i] = new FacadeFingerprint();
+            selectionCaches[i] = new ConstantStateCache();
+            customBackgroundCaches[i] = new ConstantStateCache();
+            enabled[i] = true;
+            visible[i] = true;
+        }
+        onWeekDaysChanged();
+        onDaysChanged();
+
+        accessibilityHelper = new DayAccessibilityHelper();
+        ViewCompat.setAccessibilityDelegate(this, accessibilityHelper);
+    }
+
+    @Override
+    protected void onDaysChanged() {
+        for (int i = 0; i < DAY_COUNT; i++) {
+            updateLabel(i);
+        }
+        jumpDrawablesToCurrentState();
+        invalidateAccessibility();
+    }
+
+    @Override
+    protected void onWeekDaysChanged() {
+        if (!isShowingWeekDays()) {
+            return;
+        }
+        for (int i = 0; i < DEFAULT_DAYS_IN_WEEK; i++) {
+            weekDayLabels[i] = weekDayFormatter.format(getDayOfWeekForColumn(i));
+        }
+        invalidate();
+    }
+
+    @Override
+    protected void setupDay(int index, @ShowOtherDates int showOtherDates, boolean inRange, boolean inMonth) {
+        this.showOtherDates = showOtherDates;
+        this.inRange[index] = inRange;
+        this.inMonth[index] = inMonth;
+        updateEnabled(index);
+    }
+
+    @Override
+    protected void setDayChecked(int index, boolean checked) {
+        if (this.checked[index] != checked) {
+            this.checked[index] = checked;
+            updateDrawableState(index);
+        }
+    }
+
+    @Override
+    protected void applyFacade(int index, DayViewFacade facade) {
+        int changes = appliedFacades[index].update(facade);
+        if ((changes & FacadeFingerprint.CHANGED_DISABLED) != 0) {
+            decoratedDisabled[index] = facade.areDaysDisabled();
+            updateEnabled(index);
+        }
+
+        if ((changes & FacadeFingerprint.CHANGED_BACKGROUND) != 0) {
+            Drawable background = facade.getBackgroundDrawable();
+            setCustomBackground(index, background == null ? null : customBackgroundCaches[index].get(background, getResources()));
+        }
+
+        if ((changes & FacadeFingerprint.CHANGED_SELECTION) != 0) {
+            Drawable selection = facade.getSelectionDrawable();
+            if (selection != null) {
+                customSelection[index] = true;
+                setSelectionBackground(index, selectionCaches[index].get(selection, getResources()));
+            } else if (customSelection[index]) {
+                customSelection[index] = false;
+                setSelectionBackground(index, DayView.generateBackground(selectionColor, fadeTime));
+            }
+            invalidate();
+        }
+
+        if ((changes & FacadeFingerprint.CHANGED_SPANS) != 0) {
+            updateLabel(index);
+        }
+    }
+
+    @Override
+    protected void applySelectionColor(int color) {
+        selectionColor = color;
+        for (int i = 0; i < DAY_COUNT; i++) {
+            if (!customSelection[i]) {
+                setSelectionBackground(i, DayView.generateBackground(color, fadeTime));
+            }
+        }
+        invalidate();
+    }
+
+    @Override
+    protected void applyDateTextAppearance(int taId) {
+        dateColors = applyTextAppearance(datePaint, taId);
+        layoutWidth = 0;
+        invalidate();
+    }
+
+    @Override
+    protected void applyWeekDayTextAppearance(int taId) {
+        weekDayColors = applyTextAppearance(weekDayPaint, taId);
+        invalidate();
+    }
+
+    @Override
+    protected void applyWeekDayFormatter(WeekDayFormatter formatter) {
+        weekDayFormatter = formatter == null ? WeekDayFormatter.DEFAULT : formatter;
+        onWeekDaysChanged();
+    }
+
+    @Override
+    protected void applyDayFormatter(DayFormatter formatter) {
+        dayFormatter = formatter == null ? DayFormatter.DEFAULT : formatter;
+        for (int i = 0; i < DAY_COUNT; i++) {
+            updateLabel(i);
+        }
+    }
+
+    @Override
+    protected void applySelectionEnabled(boolean selectionEnabled) {
+        setPressedIndex(-1);
+        invalidateAccessibility();
+    }
+
+    /**
+     * Load the size, typeface, and colors of a text appearance
+     *
+     * @return the colors of the text appearance, or of the theme if it has none
+     */
+    private ColorStateList applyTextAppearance(TextPaint paint, int taId) {
+        TextAppearanceSpan appearance = new TextAppearanceSpan(getContext(), taId);
+        appearance.updateMeasureState(paint);
+        ColorStateList colors = appearance.getTextColor();
+        return colors == null ? defaultTextColors : colors;
+    }
+
+    private void updateLabel(int index) {
+        String label = dayFormatter.format(getDay(index));
+        FacadeFingerprint applied = appliedFacades[index];
+        int spanCount = applied.getSpanCount();
+        if (spanCount == 0) {
+            labels[index] = label;
+        } else {
+            SpannableString formattedLabel = new SpannableString(label);
+            for (int i = 0; i < spanCount; i++) {
+                formattedLabel.setSpan(applied.getSpan(i), 0, label.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+            }
+            labels[index] = formattedLabel;
+        }
+        layouts[index] = null;
+        invalidate();
+    }
+
+    private void updateEnabled(int index) {
+        boolean isInMonth = inMonth[index];
+        boolean isInRange = inRange[index];
+        boolean isDecoratedDisabled = decoratedDisabled[index];
+        enabled[index] = isInMonth && isInRange && !isDecoratedDisabled;
+        visible[index] = DayView.shouldBeVisible(showOtherDates, isInMonth, isInRange, isDecoratedDisabled);
+        if (pressedIndex == index && !enabled[index]) {
+            pressedIndex = -1;
+        }
+        updateDrawableState(index);
+    }
+
+    private int[] getDrawableState(int index) {
+        int flags = 0;
+        if (enabled[index]) {
+            flags |= STATE_ENABLED;
+        }
+        if (checked[index]) {
+            flags |= STATE_CHECKED;
+        }
+        if (pressedIndex == index) {
+            flags |= STATE_PRESSED;
+        }
+        return CELL_STATES[flags];
+    }
+
+    private void updateDrawableState(int index) {
+        int[] state = getDrawableState(index);
+        selectionBackgrounds[index].setState(state);
+        if (customBackgrounds[index] != null) {
+            customBackgrounds[index].setState(state);
+        }
+        invalidate();
+    }
+
+    private void setSelectionBackground(int index, Drawable drawable) {
+        Drawable old = selectionBackgrounds[index];
+        if (old != null) {
+            old.setCallback(null);
+        }
+        drawable.setCallback(this);
+        selectionBackgrounds[index] = drawable;
+        if (old != null) {
+            drawable.setState(getDrawableState(index));
+            drawable.jumpToCurrentState();
+        }
+    }
+
+    private void setCustomBackground(int index, Drawable drawable) {
+        Drawable old = customBackgrounds[index];
+        if (old != null) {
+            old.setCallback(null);
+        }
+        if (drawable != null) {
+            drawable.setCallback(this);
+            drawable.setState(getDrawableState(index));
+        }
+        customBackgrounds[index] = drawable;
+        invalidate();
+    }
+
+    private int getTileSize() {
+        return getWidth() / DEFAULT_DAYS_IN_WEEK;
+    }
+
+    /**
+     * @return number of rows above the first week, for the week day header
+     */
+    private int getHeaderRows() {
+        return isShowingWeekDays() ? 1 : 0;
+    }
+
+    /**
+     * @return index of the day under a point, or -1 if there is none
+     */
+    private int getIndexAt(float x, float y) {
+        int tileSize = getTileSize();
+        if (tileSize <= 0 || x < 0 || y < 0) {
+            return -1;
+        }
+        int column = (int) x / tileSize;
+        //The first row may be the week day header
+        int row = (int) y / tileSize - getHeaderRows();
+        if (column >= DEFAULT_DAYS_IN_WEEK || row < 0 || row >= DEFAULT_MAX_WEEKS) {
+            return -1;
+        }
+        return row * DEFAULT_DAYS_IN_WEEK + column;
+    }
+
+    private void getDayBounds(int index, Rect outRect) {
+        int tileSize = getTileSize();
+        int left = (index % DEFAULT_DAYS_IN_WEEK) * tileSize;
+        int top = (index / DEFAULT_DAYS_IN_WEEK + getHeaderRows()) * tileSize;
+        outRect.set(left, top, left + tileSize, top + tileSize);
+    }
+
+    private boolean isDayClickable(int index) {
+        return isSelectionEnabled() && enabled[index] && visible[index];
+    }
+
+    private void setPressedIndex(int index) {
+        int old = pressedIndex;
+        if (old == index) {
+            return;
+        }
+        pressedIndex = index;
+        if (old >= 0) {
+            updateDrawableState(old);
+        }
+        if (index >= 0) {
+            updateDrawableState(index);
+        }
+    }
+
+    private void performDayClick(int index) {
+        playSoundEffect(SoundEffectConstants.CLICK);
+        mcv.onDateClicked(getDay(index), !checked[index]);
+        accessibilityHelper.sendEventForVirtualView(index, AccessibilityEvent.TYPE_VIEW_CLICKED);
+    }
+
+    private void invalidateAccessibility() {
+        //Called from the constructor, before the helper exists
+        if (accessibilityHelper != null) {
+            accessibilityHelper.invalidateRoot();
+        }
+    }
+
+    @Override
+    public boolean onTouchEvent(@NonNull MotionEvent event) {
+        int index = getIndexAt(event.getX(), event.getY());
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                if (index < 0 || !isDayClickable(index)) {
+                    return false;
+                }
+                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+                    selectionBackgrounds[index].setHotspot(event.getX(), event.getY());
+                }
+                setPressedIndex(index);
+                return true;
+            case MotionEvent.ACTION_MOVE:
+                if (index != pressedIndex) {
+                    setPressedIndex(-1);
+                }
+                return true;
+            case MotionEvent.ACTION_UP:
+                if (pressedIndex >= 0 && index == pressedIndex) {
+                    performDayClick(index);
+                }
+                setPressedIndex(-1);
+                return true;
+            case MotionEvent.ACTION_CANCEL:
+                setPressedIndex(-1);
+                return true;
+        }
+        return super.onTouchEvent(event);
+    }
+
+    @Override
+    protected boolean dispatchHoverEvent(@NonNull MotionEvent event) {
+        return accessibilityHelper.dispatchHoverEvent(event) || super.dispatchHoverEvent(event);
+    }
+
+    @Override
+    protected boolean verifyDrawable(Drawable who) {
+        for (int i = 0; i < DAY_COUNT; i++) {
+            if (selectionBackgrounds[i] == who || customBackgrounds[i] == who) {
+                return true;
+            }
+        }
+        return super.verifyDrawable(who);
+    }
+
+    @Override
+    public void jumpDrawablesToCurrentState() {
+        super.jumpDrawablesToCurrentState();
+        for (int i = 0; i < DAY_COUNT; i++) {
+            selectionBackgrounds[i].jumpToCurrentState();
+            if (customBackgrounds[i] != null) {
+                customBackgrounds[i].jumpToCurrentState();
+            }
+        }
+    }
+
+    @Override
+    protected void onDraw(@NonNull Canvas canvas) {
+        int tileSize = getTileSize();
+        if (tileSize <= 0) {
+            return;
+        }
+        if (layoutWidth != tileSize) {
+            layoutWidth = tileSize;
+            for (int i = 0; i < DAY_COUNT; i++) {
+                layouts[i] = null;
+            }
+        }
+
+        if (isShowingWeekDays()) {
+            int weekDayColor = weekDayColors == null ? Color.BLACK : weekDayColors.getDefaultColor();
+            weekDayPaint.setColor(weekDayColor);
+            for (int i = 0; i < DEFAULT_DAYS_IN_WEEK; i++) {
+                CharSequence label = weekDayLabels[i];
+                float x = i * tileSize + (tileSize - weekDayPaint.measureText(label, 0, label.length())) / 2;
+                canvas.drawText(label, 0, label.length(), x, getBaseline(weekDayPaint, 0, tileSize), weekDayPaint);
+            }
+        }
+
+        for (int i = 0; i < DAY_COUNT; i++) {
+            if (!visible[i]) {
+                continue;
+            }
+            getDayBounds(i, tempRect);
+
+            //Same order as DayView: selection background, custom background, label
+            Drawable selection = selectionBackgrounds[i];
+            selection.setBounds(tempRect);
+            selection.draw(canvas);
+            Drawable background = customBackgrounds[i];
+            if (background != null) {
+                background.setBounds(tempRect);
+                background.draw(canvas);
+            }
+
+            int defaultColor = dateColors == null ? Color.BLACK : dateColors.getDefaultColor();
+            datePaint.setColor(dateColors == null ? defaultColor
+                    : dateColors.getColorForState(getDrawableState(i), defaultColor));
+            drawLabel(canvas, i, tempRect);
+        }
+    }
+
+    private void drawLabel(Canvas canvas, int index, Rect bounds) {
+        CharSequence label = labels[index];
+        if (!(label instanceof Spanned)) {
+            float x = bounds.left + (bounds.width() - datePaint.measureText(label, 0, label.length())) / 2;
+            canvas.drawText(label, 0, label.length(), x, getBaseline(datePaint, bounds.top, bounds.height()), datePaint);
+            return;
+        }
+
+        Layout layout = layouts[index];
+        if (layout == null) {
+            layout = new StaticLayout(label, datePaint, bounds.width(), Layout.Alignment.ALIGN_CENTER, 1f, 0f, false);
+            layouts[index] = layout;
+        }
+        canvas.save();
+        canvas.translate(bounds.left, bounds.top + (bounds.height() - layout.getHeight()) / 2);
+        layout.draw(canvas);
+        canvas.restore();
+    }
+
+    private static float getBaseline(Paint paint, int top, int height) {
+        return top + (height - paint.descent() - paint.ascent()) / 2;
+    }
+
+    private CharSequence getDayDescription(int index) {
+        if (descriptionFormat == null) {
+            descriptionFormat = DateFormat.getDateInstance(DateFormat.LONG);
+        }
+        return descriptionFormat.format(getDay(index).getDate());
+    }
+
+    /**
+     * Exposes every visible day as a checkable virtual view
+     */
+    private class DayAccessibilityHelper extends ExploreByTouchHelper {
+
+        DayAccessibilityHelper() {
+            super(FlatMonthView.this);
+        }
+
+        @Override
+        protected int getVirtualViewAt(float x, float y) {
+            int index = getIndexAt(x, y);
+            return index >= 0 && visible[index] ? index : INVALID_ID;
+        }
+
+        @Override
+        protected void getVisibleVirtualViews(List<Integer> virtualViewIds) {
+            for (int i = 0; i < DAY_COUNT; i++) {
+                if (visible[i]) {
+                    virtualViewIds.add(i);
+                }
+            }
+        }
+
+        @Override
+        protected void onPopulateEventForVirtualView(int virtualViewId, AccessibilityEvent event) {
+            event.setContentDescription(getDayDescription(virtualViewId));
+            event.setChecked(checked[virtualViewId]);
+        }
+
+        @Override
+        protected void onPopulateNodeForVirtualView(int virtualViewId, AccessibilityNodeInfoCompat node) {
+            node.setContentDescription(getDayDescription(virtualViewId));
+            getDayBounds(virtualViewId, tempRect);
+            if (tempRect.isEmpty()) {
+                //Bounds are required, even before we are laid out
+                tempRect.set(0, 0, 1, 1);
+            }
+            node.setBoundsInParent(tempRect);
+            node.setCheckable(true);
+            node.setChecked(checked[virtualViewId]);
+            node.setEnabled(enabled[virtualViewId]);
+            if (isDayClickable(virtualViewId)) {
+                node.setClickable(true);
+                node.addAction(AccessibilityNodeInfoCompat.ACTION_CLICK);
+            }
+        }
+
+        @Override
+        protected boolean onPerformActionForVirtualView(int virtualViewId, int action, Bundle arguments) {
+            if (action == AccessibilityNodeInfoCompat.ACTION_CLICK && isDayClickable(virtualViewId)) {
+                performDayClick(virtualViewId);
+                return true;
+            }
+            return false;
+        }
+    }
+}
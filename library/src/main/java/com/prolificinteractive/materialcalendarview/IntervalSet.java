@@ -0,0 +1,250 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Set of epoch days, stored as sorted, non-overlapping {@code [start, end]} intervals.
+ * <p/>
+ * Adjacent and overlapping intervals are merged, so adding a range of any length takes constant
+ * space and membership checks are a binary search over the intervals.
+ *
+ * @see RangeSelection
+ * @see DateSetDecorator
+ */
+final class IntervalSet {
+
+    private static final int INITIAL_CAPACITY = 2;
+
+    private int[] starts = new int[INITIAL_CAPACITY];
+    private int[] ends = new int[INITIAL_CAPACITY];
+    private int intervalCount = 0;
+    private int dayCount = 0;
+
+    /**
+     * Add every day between two days, inclusive
+     *
+     * @param start first epoch day of the range
+     * @param end   last epoch day of the range, not before start
+     * @return true if the set changed
+     */
+    boolean add(int start, int end) {
+        //First interval that ends on or after the day before start, so adjacent intervals merge
+        int from = findFirstEndingAtOrAfter(start - 1);
+        if (from < intervalCount && starts[from] <= start && ends[from] >= end) {
+            return false;
+        }
+
+        int to = from;
+        int removedDays = 0;
+        while (to < intervalCount && starts[to] <= end + 1) {
+            start = Math.min(start, starts[to]);
+            end = Math.max(end, ends[to]);
+            removedDays += ends[to] - starts[to] + 1;
+            to++;
+        }
+
+        replace(from, to, start, end);
+        dayCount += (end - start + 1) - removedDays;
+        return true;
+    }
+
+    /**
+     * @param epochDay day to remove
+     * @return true if the set changed
+     */
+    boolean remove(int epochDay) {
+        int index = findFirstEndingAtOrAfter(epochDay);
+        if (index >= intervalCount || starts[index] > epochDay) {
+            return false;
+        }
+
+        int start = starts[index];
+        int end = ends[index];
+        if (start == end) {
+            replace(index, index + 1);
+        } else if (epochDay == start) {
+            starts[index] = start + 1;
+        } else if (epochDay == end) {
+            ends[index] = end - 1;
+        } else {
+            //Split the interval around the removed day
+            ends[index] = epochDay - 1;
+            replace(index + 1, index + 1, epochDay + 1, end);
+        }
+
+        dayCount--;
+        return true;
+    }
+
+    boolean contains(int epochDay) {
+        int index = findFirstEndingAtOrAfter(epochDay);
+        return index < intervalCount && starts[index] <= epochDay;
+    }
+
+    /**
+     * @param firstEpochDay first day of the window
+     * @param dayCount      number of days in the window, at most 64
+     * @return a mask with bit {@code n} set when day {@code firstEpochDay + n} is in the set
+     */
+    long getDayMask(int firstEpochDay, int dayCount) {
+        int lastEpochDay = firstEpochDay + dayCount - 1;
+
+        long mask = 0;
+        for (int i = findFirstEndingAtOrAfter(firstEpochDay); i < intervalCount && starts[i] <= lastEpochDay; i++) {
+            int lo = Math.max(starts[i], firstEpochDay) - firstEpochDay;
+            int hi = Math.min(ends[i], lastEpochDay) - firstEpochDay;
+            mask |= (-1L >>> (63 - hi)) & (-1L << lo);
+        }
+        return mask;
+    }
+
+    /**
+     * Remove every day outside of a range in a single pass
+     *
+     * @param minDay the earliest epoch day to keep
+     * @param maxDay the latest epoch day to keep
+     * @return the days that were removed, in chronological order
+     */
+    @NonNull
+    List<CalendarDay> retainRange(int minDay, int maxDay) {
+        if (intervalCount == 0 || (starts[0] >= minDay && ends[intervalCount - 1] <= maxDay)) {
+            return Collections.emptyList();
+        }
+
+        ArrayList<CalendarDay> removed = null;
+        int kept = 0;
+        for (int i = 0; i < intervalCount; i++) {
+            int start = starts[i];
+            int end = ends[i];
+            int keepStart = Math.max(start, minDay);
+            int keepEnd = Math.min(end, maxDay);
+
+            if (keepStart > keepEnd) {
+                removed = addDays(removed, start, end);
+                dayCount -= end - start + 1;
+                continue;
+            }
+            if (keepStart > start) {
+                removed = addDays(removed, start, keepStart - 1);
+                dayCount -= keepStart - start;
+            }
+            if (keepEnd < end) {
+                removed = addDays(removed, keepEnd + 1, end);
+                dayCount -= end - keepEnd;
+            }
+            starts[kept] = keepStart;
+            ends[kept] = keepEnd;
+            kept++;
+        }
+        intervalCount = kept;
+
+        if (removed == null) {
+            return Collections.emptyList();
+        }
+        return removed;
+    }
+
+    void clear() {
+        intervalCount = 0;
+        dayCount = 0;
+    }
+
+    /**
+     * @return the number of days in the set
+     */
+    int size() {
+        return dayCount;
+    }
+
+    boolean isEmpty() {
+        return dayCount == 0;
+    }
+
+    int getIntervalCount() {
+        return intervalCount;
+    }
+
+    /**
+     * @param index index of the interval, in chronological order
+     * @return first epoch day of the interval
+     */
+    int getStart(int index) {
+        return starts[index];
+    }
+
+    /**
+     * @param index index of the interval, in chronological order
+     * @return last epoch day of the interval
+     */
+    int getEnd(int index) {
+        return ends[index];
+    }
+
+    /**
+     * Append every day between two epoch days, inclusive
+     *
+     * @param list list to append to, or null to create one
+     * @return the list the days were appended to
+     */
+    static ArrayList<CalendarDay> addDays(@Nullable ArrayList<CalendarDay> list, int start, int end) {
+        if (list == null) {
+            list = new ArrayList<>(end - start + 1);
+        }
+        for (int epochDay = start; epochDay <= end; epochDay++) {
+            list.add(CalendarDay.fromEpochDay(epochDay));
+        }
+        return list;
+    }
+
+    /**
+     * @param epochDay day to look for
+     * @return index of the first interval with an end on or after the day,
+     * or the interval count if there is none
+     */
+    private int findFirstEndingAtOrAfter(int epochDay) {
+        int lo = 0;
+        int hi = intervalCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ends[mid] < epochDay) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Remove intervals {@code [from, to)}
+     */
+    private void replace(int from, int to) {
+        System.arraycopy(starts, to, starts, from, intervalCount - to);
+        System.arraycopy(ends, to, ends, from, intervalCount - to);
+        intervalCount -= to - from;
+    }
+
+    /**
+     * Replace intervals {@code [from, to)} with one interval
+     */
+    private void replace(int from, int to, int start, int end) {
+        if (from == to && intervalCount == starts.length) {
+            int[] newStarts = new int[intervalCount * 2];
+            int[] newEnds = new int[intervalCount * 2];
+            System.arraycopy(starts, 0, newStarts, 0, intervalCount);
+            System.arraycopy(ends, 0, newEnds, 0, intervalCount);
+            starts = newStarts;
+            ends = newEnds;
+        }
+        System.arraycopy(starts, to, starts, from + 1, intervalCount - to);
+        System.arraycopy(ends, to, ends, from + 1, intervalCount - to);
+        starts[from] = start;
+        ends[from] = end;
+        intervalCount += 1 - (to - from);
+    }
+}
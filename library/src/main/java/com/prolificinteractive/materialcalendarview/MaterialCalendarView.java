@@ -25,7 +25,7 @@ import android.widget.LinearLayout;
 import android.widget.TextView;
 
 import com.prolificinteractive.materialcalendarview.format.ArrayWeekDayFormatter;
-import com.prolificinteractive.materialcalendarview.format.DateFormatTitleFormatter;
+import com.prolificinteractive.materialcalendarview.format.CachingTitleFormatter;
 import com.prolificinteractive.materialcalendarview.format.DayFormatter;
 import com.prolificinteractive.materialcalendarview.format.MonthArrayTitleFormatter;
 import com.prolificinteractive.materialcalendarview.format.TitleFormatter;
@@ -37,8 +37,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * <p>
@@ -71,7 +74,7 @@ public class MaterialCalendarView extends ViewGroup {
      * @see #getSelectionMode()
      */
     @Retention(RetentionPolicy.RUNTIME)
-    @IntDef({SELECTION_MODE_NONE, SELECTION_MODE_SINGLE, SELECTION_MODE_MULTIPLE})
+    @IntDef({SELECTION_MODE_NONE, SELECTION_MODE_SINGLE, SELECTION_MODE_MULTIPLE, SELECTION_MODE_RANGE})
     public @interface SelectionMode {
     }
 
@@ -93,6 +96,16 @@ public class MaterialCalendarView extends ViewGroup {
      */
     public static final int SELECTION_MODE_MULTIPLE = 2;
 
+    /**
+     * Selection mode which allows one continuous range of dates.
+     * The first click picks the start of the range and the second click picks the end.
+     * The selection is stored as intervals, so ranges of any length stay cheap.
+     * Changes are reported to an {@linkplain OnRangeSelectedListener} rather than one
+     * {@linkplain OnDateSelectedListener} call per date. Each reported range replaces the
+     * previous one, and the days of the previous range are not reported as unselected.
+     */
+    public static final int SELECTION_MODE_RANGE = 3;
+
     /**
      * {@linkplain IntDef} annotation for showOtherDates.
      *
@@ -145,7 +158,7 @@ public class MaterialCalendarView extends ViewGroup {
      */
     public static final int DEFAULT_TILE_SIZE_DP = 44;
 
-    private static final TitleFormatter DEFAULT_TITLE_FORMATTER = new DateFormatTitleFormatter();
+    private static final TitleFormatter DEFAULT_TITLE_FORMATTER = new CachingTitleFormatter();
     private final TitleChanger titleChanger;
 
     private final TextView title;
@@ -155,6 +168,7 @@ public class MaterialCalendarView extends ViewGroup {
     private final MonthPagerAdapter adapter;
     private CalendarDay currentMonth;
     private LinearLayout topbar;
+    private WeekDayHeader weekDayHeader;
 
     private final ArrayList<DayViewDecorator> dayViewDecorators = new ArrayList<>();
 
@@ -193,6 +207,13 @@ public class MaterialCalendarView extends ViewGroup {
 
     private OnDateSelectedListener listener;
     private OnMonthChangedListener monthListener;
+    private OnRangeSelectedListener rangeListener;
+    private OnDatesSelectedListener datesListener;
+
+    /**
+     * First day of a range being picked in {@linkplain #SELECTION_MODE_RANGE}, null if none
+     */
+    private CalendarDay rangeAnchor = null;
 
     private int accentColor = 0;
     private int arrowColor = Color.BLACK;
@@ -307,6 +328,16 @@ public class MaterialCalendarView extends ViewGroup {
                     SHOW_DEFAULTS
             ));
 
+            setFlatRenderingEnabled(a.getBoolean(
+                    R.styleable.MaterialCalendarView_mcv_flatRendering,
+                    false
+            ));
+
+            setSharedWeekDayHeaderEnabled(a.getBoolean(
+                    R.styleable.MaterialCalendarView_mcv_sharedWeekDayHeader,
+                    false
+            ));
+
             int firstDayOfWeek = a.getInteger(
                     R.styleable.MaterialCalendarView_mcv_firstDayOfWeek,
                     -1
@@ -326,12 +357,13 @@ public class MaterialCalendarView extends ViewGroup {
 
         if (isInEditMode()) {
             removeView(pager);
-            MonthView monthView = new MonthView(this, currentMonth, getFirstDayOfWeek());
+            boolean sharedWeekDayHeader = isSharedWeekDayHeaderEnabled();
+            MonthView monthView = new MonthView(this, currentMonth, getFirstDayOfWeek(), !sharedWeekDayHeader);
             monthView.setSelectionColor(getSelectionColor());
             monthView.setDateTextAppearance(adapter.getDateTextAppearance());
             monthView.setWeekDayTextAppearance(adapter.getWeekDayTextAppearance());
             monthView.setShowOtherDates(getShowOtherDates());
-            addView(monthView, new LayoutParams(MonthView.DEFAULT_MONTH_TILE_HEIGHT));
+            addView(monthView, new LayoutParams(getPagerTileHeight(sharedWeekDayHeader)));
         }
     }
 
@@ -356,6 +388,10 @@ public class MaterialCalendarView extends ViewGroup {
         buttonFuture.setImageResource(R.drawable.mcv_action_next);
         topbar.addView(buttonFuture, new LinearLayout.LayoutParams(0, LayoutParams.MATCH_PARENT, 1));
 
+        weekDayHeader = new WeekDayHeader(getContext(), Calendar.SUNDAY);
+        weekDayHeader.setVisibility(View.GONE);
+        addView(weekDayHeader, new LayoutParams(1));
+
         pager.setId(R.id.mcv_pager);
         pager.setOffscreenPageLimit(1);
         addView(pager, new LayoutParams(MonthView.DEFAULT_MONTH_TILE_HEIGHT));
@@ -371,24 +407,31 @@ public class MaterialCalendarView extends ViewGroup {
      * Change the selection mode of the calendar. The default mode is {@linkplain #SELECTION_MODE_SINGLE}
      *
      * @param mode the selection mode to change to. This must be one of
-     *             {@linkplain #SELECTION_MODE_NONE}, {@linkplain #SELECTION_MODE_SINGLE}, or {@linkplain #SELECTION_MODE_MULTIPLE}.
+     *             {@linkplain #SELECTION_MODE_NONE}, {@linkplain #SELECTION_MODE_SINGLE},
+     *             {@linkplain #SELECTION_MODE_MULTIPLE}, or {@linkplain #SELECTION_MODE_RANGE}.
      *             Unknown values will act as {@linkplain #SELECTION_MODE_SINGLE}
      * @see #getSelectionMode()
      * @see #SELECTION_MODE_NONE
      * @see #SELECTION_MODE_SINGLE
      * @see #SELECTION_MODE_MULTIPLE
+     * @see #SELECTION_MODE_RANGE
      */
     public void setSelectionMode(final @SelectionMode int mode) {
         final @SelectionMode int oldMode = this.selectionMode;
+        rangeAnchor = null;
         switch (mode) {
             case SELECTION_MODE_MULTIPLE: {
                 this.selectionMode = SELECTION_MODE_MULTIPLE;
             }
             break;
+            case SELECTION_MODE_RANGE: {
+                this.selectionMode = SELECTION_MODE_RANGE;
+            }
+            break;
             default:
             case SELECTION_MODE_SINGLE: {
                 this.selectionMode = SELECTION_MODE_SINGLE;
-                if (oldMode == SELECTION_MODE_MULTIPLE) {
+                if (oldMode == SELECTION_MODE_MULTIPLE || oldMode == SELECTION_MODE_RANGE) {
                     //We should only have one selection now, so we should pick one
                     List<CalendarDay> dates = getSelectedDates();
                     if (!dates.isEmpty()) {
@@ -407,6 +450,7 @@ public class MaterialCalendarView extends ViewGroup {
             break;
         }
 
+        adapter.setRangeSelectionEnabled(selectionMode == SELECTION_MODE_RANGE);
         adapter.setSelectionEnabled(selectionMode != SELECTION_MODE_NONE);
     }
 
@@ -418,12 +462,65 @@ public class MaterialCalendarView extends ViewGroup {
      * @see #SELECTION_MODE_NONE
      * @see #SELECTION_MODE_SINGLE
      * @see #SELECTION_MODE_MULTIPLE
+     * @see #SELECTION_MODE_RANGE
      */
     @SelectionMode
     public int getSelectionMode() {
         return selectionMode;
     }
 
+    /**
+     * Draw each month on a single canvas instead of with a view per day.
+     * <p/>
+     * Flat pages measure, lay out, and page faster, which helps when the calendar is inside
+     * a scrolling layout. Decorators, selection, and accessibility work the same way in both modes.
+     * Changing this recreates every page.
+     *
+     * @param enabled true to draw months on a single canvas, false to use a view per day
+     */
+    public void setFlatRenderingEnabled(boolean enabled) {
+        adapter.setFlatRenderingEnabled(enabled);
+    }
+
+    /**
+     * @return true if months are drawn on a single canvas
+     * @see #setFlatRenderingEnabled(boolean)
+     */
+    public boolean isFlatRenderingEnabled() {
+        return adapter.isFlatRenderingEnabled();
+    }
+
+    /**
+     * Show one row of week days above the pager, instead of a row on every month.
+     * <p/>
+     * Months then only contain days, so each page has fewer views to create, measure, and lay out.
+     * The header does not move while paging. The calendar keeps the same size in both modes.
+     * Changing this recreates every page.
+     *
+     * @param enabled true to show a single row of week days above the months
+     */
+    public void setSharedWeekDayHeaderEnabled(boolean enabled) {
+        weekDayHeader.setVisibility(enabled ? View.VISIBLE : View.GONE);
+        pager.getLayoutParams().height = getPagerTileHeight(enabled);
+        adapter.setSharedWeekDayHeaderEnabled(enabled);
+        requestLayout();
+    }
+
+    /**
+     * @return true if a single row of week days is shown above the months
+     * @see #setSharedWeekDayHeaderEnabled(boolean)
+     */
+    public boolean isSharedWeekDayHeaderEnabled() {
+        return adapter.isSharedWeekDayHeaderEnabled();
+    }
+
+    /**
+     * @return the height of a month in tiles
+     */
+    private static int getPagerTileHeight(boolean sharedWeekDayHeader) {
+        return sharedWeekDayHeader ? MonthView.DEFAULT_MAX_WEEKS : MonthView.DEFAULT_MONTH_TILE_HEIGHT;
+    }
+
     /**
      * @return the size of tiles in pixels
      */
@@ -567,6 +664,9 @@ public class MaterialCalendarView extends ViewGroup {
      */
     public void setWeekDayTextAppearance(int resourceId) {
         adapter.setWeekDayTextAppearance(resourceId);
+        if (resourceId != 0) {
+            weekDayHeader.setWeekDayTextAppearance(resourceId);
+        }
     }
 
     /**
@@ -574,16 +674,13 @@ public class MaterialCalendarView extends ViewGroup {
      * will return the last selected date
      */
     public CalendarDay getSelectedDate() {
-        List<CalendarDay> dates = adapter.getSelectedDates();
-        if (dates.isEmpty()) {
-            return null;
-        } else {
-            return dates.get(dates.size() - 1);
-        }
+        return adapter.getSelectedDate();
     }
 
     /**
-     * @return all of the currently selected dates
+     * In {@linkplain #SELECTION_MODE_RANGE} this expands the selected range into one entry per day.
+     *
+     * @return all of the currently selected dates, in chronological order
      */
     @NonNull
     public List<CalendarDay> getSelectedDates() {
@@ -595,10 +692,9 @@ public class MaterialCalendarView extends ViewGroup {
      */
     public void clearSelection() {
         List<CalendarDay> dates = getSelectedDates();
+        rangeAnchor = null;
         adapter.clearSelections();
-        for (CalendarDay day : dates) {
-            dispatchOnDateSelected(day, false);
-        }
+        dispatchOnDatesSelected(dates, false);
     }
 
     /**
@@ -652,6 +748,87 @@ public class MaterialCalendarView extends ViewGroup {
         adapter.setDateSelected(day, selected);
     }
 
+    /**
+     * Change the selection of many dates at once. Every page is refreshed only one time,
+     * no matter how many dates change, and the dates that changed are reported in one batch.
+     *
+     * @param days     dates to change. Null entries are ignored
+     * @param selected true if the days should be selected, false to deselect
+     */
+    public void setDatesSelected(@Nullable Collection<CalendarDay> days, boolean selected) {
+        if (days == null || days.isEmpty()) {
+            return;
+        }
+        rangeAnchor = null;
+        List<CalendarDay> changed = adapter.setDatesSelected(days, selected);
+        Collections.sort(changed);
+        dispatchOnDatesSelected(changed, selected);
+    }
+
+    /**
+     * Replace the current selection with the given dates. Every page is refreshed only one time,
+     * dates that are no longer selected are reported in one batch,
+     * and then newly selected dates are reported in another.
+     *
+     * @param days dates to select. Null or empty clears the selection
+     */
+    public void setSelectedDates(@Nullable Collection<CalendarDay> days) {
+        if (days == null || days.isEmpty()) {
+            clearSelection();
+            return;
+        }
+        List<CalendarDay> previous = getSelectedDates();
+        HashSet<CalendarDay> added = new HashSet<>();
+        for (CalendarDay day : days) {
+            if (day != null && !adapter.isSelected(day)) {
+                added.add(day);
+            }
+        }
+        rangeAnchor = null;
+        adapter.setSelectedDates(days);
+
+        ArrayList<CalendarDay> unselected = new ArrayList<>();
+        for (CalendarDay day : previous) {
+            if (!adapter.isSelected(day)) {
+                unselected.add(day);
+            }
+        }
+        //Days outside of the date range are dropped by the adapter
+        ArrayList<CalendarDay> selected = new ArrayList<>(added.size());
+        for (CalendarDay day : added) {
+            if (adapter.isSelected(day)) {
+                selected.add(day);
+            }
+        }
+        Collections.sort(selected);
+        dispatchOnDatesSelected(unselected, false);
+        dispatchOnDatesSelected(selected, true);
+    }
+
+    /**
+     * Clear the current selection and select every date between two dates, inclusive.
+     * This only works in {@linkplain #SELECTION_MODE_RANGE}, and does nothing in other modes.
+     * The order of the dates does not matter, and the range is limited to the minimum and maximum dates.
+     * The {@linkplain OnRangeSelectedListener} is told about the range that was actually selected,
+     * and is not called if no date of the range can be selected.
+     * This takes constant space no matter how long the range is.
+     *
+     * @param firstDay first day of the range. Passing null does nothing
+     * @param lastDay  last day of the range. Passing null does nothing
+     */
+    public void selectRange(@Nullable CalendarDay firstDay, @Nullable CalendarDay lastDay) {
+        if (firstDay == null || lastDay == null) {
+            return;
+        }
+        if (selectionMode != SELECTION_MODE_RANGE) {
+            return;
+        }
+        rangeAnchor = null;
+        if (adapter.selectRange(firstDay, lastDay)) {
+            dispatchOnRangeSelected(adapter.getFirstSelected(), adapter.getLastSelected());
+        }
+    }
+
     /**
      * @param calendar a Calendar set to a day to focus the calendar on. Null will do nothing
      */
@@ -773,7 +950,11 @@ public class MaterialCalendarView extends ViewGroup {
      * @param formatter the new formatter, null for default
      */
     public void setWeekDayFormatter(WeekDayFormatter formatter) {
-        adapter.setWeekDayFormatter(formatter == null ? WeekDayFormatter.DEFAULT : formatter);
+        if (formatter == null) {
+            formatter = WeekDayFormatter.DEFAULT;
+        }
+        adapter.setWeekDayFormatter(formatter);
+        weekDayHeader.setWeekDayFormatter(formatter);
     }
 
     /**
@@ -889,7 +1070,11 @@ public class MaterialCalendarView extends ViewGroup {
         ss.showOtherDates = getShowOtherDates();
         ss.minDate = getMinimumDate();
         ss.maxDate = getMaximumDate();
-        ss.selectedDates = getSelectedDates();
+        //Intervals take constant space no matter how long the selected ranges are
+        ss.selectedIntervals = adapter.getSelectedIntervals();
+        if (ss.selectedIntervals == null) {
+            ss.selectedDates = getSelectedDates();
+        }
         ss.firstDayOfWeek = getFirstDayOfWeek();
         ss.selectionMode = getSelectionMode();
         ss.tileSizePx = getTileSize();
@@ -906,14 +1091,16 @@ public class MaterialCalendarView extends ViewGroup {
         setWeekDayTextAppearance(ss.weekDayTextAppearance);
         setShowOtherDates(ss.showOtherDates);
         setRangeDates(ss.minDate, ss.maxDate);
-        clearSelection();
-        for (CalendarDay calendarDay : ss.selectedDates) {
-            setDateSelected(calendarDay, true);
+        //The mode decides how the selection is stored, so it goes first
+        setSelectionMode(ss.selectionMode);
+        if (ss.selectedIntervals != null && ss.selectionMode == SELECTION_MODE_RANGE) {
+            adapter.setSelectedIntervals(ss.selectedIntervals);
+        } else {
+            adapter.setSelectedDates(ss.selectedDates);
         }
         setFirstDayOfWeek(ss.firstDayOfWeek);
         setTileSize(ss.tileSizePx);
         setTopbarVisible(ss.topbarVisible);
-        setSelectionMode(ss.selectionMode);
     }
 
     @Override
@@ -943,6 +1130,10 @@ public class MaterialCalendarView extends ViewGroup {
         CalendarDay minDate = null;
         CalendarDay maxDate = null;
         List<CalendarDay> selectedDates = new ArrayList<>();
+        /**
+         * Selection in {@linkplain #SELECTION_MODE_RANGE}, saved instead of {@linkplain #selectedDates}
+         */
+        int[] selectedIntervals = null;
         int firstDayOfWeek = Calendar.SUNDAY;
         int tileSizePx = -1;
         boolean topbarVisible = true;
@@ -966,6 +1157,7 @@ public class MaterialCalendarView extends ViewGroup {
             out.writeInt(tileSizePx);
             out.writeInt(topbarVisible ? 1 : 0);
             out.writeInt(selectionMode);
+            out.writeIntArray(selectedIntervals);
         }
 
         public static final Parcelable.Creator<SavedState> CREATOR
@@ -994,6 +1186,7 @@ public class MaterialCalendarView extends ViewGroup {
             tileSizePx = in.readInt();
             topbarVisible = in.readInt() == 1;
             selectionMode = in.readInt();
+            selectedIntervals = in.createIntArray();
         }
     }
 
@@ -1020,6 +1213,7 @@ public class MaterialCalendarView extends ViewGroup {
      */
     public void setFirstDayOfWeek(int day) {
         adapter.setFirstDayOfWeek(day);
+        weekDayHeader.setFirstDayOfWeek(day);
     }
 
     /**
@@ -1091,6 +1285,79 @@ public class MaterialCalendarView extends ViewGroup {
         adapter.invalidateDecorators();
     }
 
+    /**
+     * Evaluate {@linkplain DayViewDecorator#shouldDecorate(CalendarDay)} in the background.
+     * <p/>
+     * Decorators are evaluated for a whole page on the executor, and the days that changed are
+     * updated on the main thread when the results arrive. Results for a page that has since been
+     * scrolled away or changed are dropped. {@linkplain DateSetDecorator}s are always looked up
+     * on the main thread, and {@linkplain DayViewDecorator#decorate(DayViewFacade)} is always
+     * called on the main thread.
+     * <p/>
+     * With an executor, your decorators must be safe to call from the executor's threads.
+     *
+     * @param executor executor to evaluate decorators on, or null to evaluate them on the main thread,
+     *                 which is the default
+     */
+    public void setDecoratorExecutor(@Nullable Executor executor) {
+        adapter.setDecoratorExecutor(executor);
+    }
+
+    /**
+     * @return the executor decorators are evaluated on, or null if they are evaluated on the main thread
+     * @see #setDecoratorExecutor(Executor)
+     */
+    @Nullable
+    public Executor getDecoratorExecutor() {
+        return adapter.getDecoratorExecutor();
+    }
+
+    /**
+     * Measure the cost of each decorator, and of applying decorations to pages.
+     * <p/>
+     * Read the numbers from the profiler whenever you want, for example to log them after a swipe.
+     * Months the calendar remembers do not ask decorators again, so they add nothing to the profiler.
+     *
+     * @param profiler profiler to record to, or null to stop measuring, which is the default
+     */
+    public void setDecoratorProfiler(@Nullable DecoratorProfiler profiler) {
+        adapter.setDecoratorProfiler(profiler);
+    }
+
+    /**
+     * @return the profiler decorators are measured with, or null if they are not measured
+     * @see #setDecoratorProfiler(DecoratorProfiler)
+     */
+    @Nullable
+    public DecoratorProfiler getDecoratorProfiler() {
+        return adapter.getDecoratorProfiler();
+    }
+
+    /**
+     * Invalidate a single decorator after it has changed internally.
+     * Only that decorator is asked to decorate again and is re-evaluated,
+     * the results of every other decorator are reused.
+     *
+     * @param decorator the decorator that changed
+     * @see #invalidateDecorators()
+     */
+    public void invalidateDecorator(DayViewDecorator decorator) {
+        adapter.invalidateDecorator(decorator);
+    }
+
+    /**
+     * Invalidate decorators for a range of days, after the data behind them changed.
+     * Every decorator is re-evaluated for these days only, and only days whose decorators changed
+     * are updated. The decorations themselves are reused, use {@linkplain #invalidateDecorator(DayViewDecorator)}
+     * if those changed.
+     *
+     * @param from first day to update
+     * @param to   last day to update, inclusive
+     */
+    public void invalidateDecorators(@NonNull CalendarDay from, @NonNull CalendarDay to) {
+        adapter.invalidateDecorators(from, to);
+    }
+
     /*
      * Listener/Callback Code
      */
@@ -1104,6 +1371,27 @@ public class MaterialCalendarView extends ViewGroup {
         this.listener = listener;
     }
 
+    /**
+     * Sets the listener to be notified when several dates change at once,
+     * such as when the selection is cleared. While this listener is set, those changes are
+     * reported to it in one call instead of once per date to the {@linkplain OnDateSelectedListener}.
+     *
+     * @param listener thing to be notified
+     */
+    public void setOnDatesSelectedListener(OnDatesSelectedListener listener) {
+        this.datesListener = listener;
+    }
+
+    /**
+     * Sets the listener to be notified when a range of dates is selected.
+     *
+     * @param listener thing to be notified
+     * @see #SELECTION_MODE_RANGE
+     */
+    public void setOnRangeSelectedListener(OnRangeSelectedListener listener) {
+        this.rangeListener = listener;
+    }
+
     /**
      * Sets the listener to be notified upon month changes.
      *
@@ -1126,6 +1414,40 @@ public class MaterialCalendarView extends ViewGroup {
         }
     }
 
+    /**
+     * Dispatch a batch of date change events. If an {@linkplain OnDatesSelectedListener} is set,
+     * it is called once, otherwise each date is dispatched to the {@linkplain OnDateSelectedListener}.
+     *
+     * @param days     the days that changed
+     * @param selected true if the days are now currently selected, false otherwise
+     */
+    protected void dispatchOnDatesSelected(final List<CalendarDay> days, final boolean selected) {
+        if (days.isEmpty()) {
+            return;
+        }
+        OnDatesSelectedListener l = datesListener;
+        if (l != null) {
+            l.onDatesSelected(MaterialCalendarView.this, days, selected);
+        } else {
+            for (CalendarDay day : days) {
+                dispatchOnDateSelected(day, selected);
+            }
+        }
+    }
+
+    /**
+     * Dispatch range selection events to a listener, if set
+     *
+     * @param firstDay first day of the range
+     * @param lastDay  last day of the range
+     */
+    protected void dispatchOnRangeSelected(final CalendarDay firstDay, final CalendarDay lastDay) {
+        OnRangeSelectedListener l = rangeListener;
+        if (l != null) {
+            l.onRangeSelected(MaterialCalendarView.this, firstDay, lastDay);
+        }
+    }
+
     /**
      * Dispatch date change events to a listener, if set
      *
@@ -1151,6 +1473,21 @@ public class MaterialCalendarView extends ViewGroup {
                 dispatchOnDateSelected(date, nowSelected);
             }
             break;
+            case SELECTION_MODE_RANGE: {
+                CalendarDay anchor = rangeAnchor;
+                if (anchor == null) {
+                    rangeAnchor = date;
+                    adapter.selectRange(date, date);
+                    dispatchOnRangeSelected(date, date);
+                } else {
+                    rangeAnchor = null;
+                    CalendarDay first = anchor.isAfter(date) ? date : anchor;
+                    CalendarDay last = anchor.isAfter(date) ? anchor : date;
+                    adapter.selectRange(first, last);
+                    dispatchOnRangeSelected(first, last);
+                }
+            }
+            break;
             default:
             case SELECTION_MODE_SINGLE: {
                 adapter.clearSelections();
@@ -1170,6 +1507,15 @@ public class MaterialCalendarView extends ViewGroup {
         dispatchOnDateSelected(date, false);
     }
 
+    /**
+     * Called by the adapter when changes in state result in several dates being unselected at once
+     *
+     * @param dates dates that were de-selected, in chronological order
+     */
+    protected void onDatesUnselected(List<CalendarDay> dates) {
+        dispatchOnDatesSelected(dates, false);
+    }
+
     /*
      * Show Other Dates Utils
      */
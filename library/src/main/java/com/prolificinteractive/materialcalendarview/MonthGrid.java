@@ -0,0 +1,133 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.support.annotation.NonNull;
+
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The days a page shows for a month, six weeks starting on the first day of the week.
+ * <p/>
+ * Grids are immutable and shared by every page, so binding a page to a month it or another
+ * page showed recently is an array copy.
+ */
+final class MonthGrid {
+
+    /**
+     * Number of grids to remember, a few months on each side of the current one
+     */
+    private static final int CACHE_SIZE = 24;
+
+    private static final LinkedHashMap<Integer, MonthGrid> CACHE =
+            new LinkedHashMap<Integer, MonthGrid>(CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, MonthGrid> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            };
+
+    /**
+     * @param month           any day of the month
+     * @param firstDayOfWeek  first day of the week as defined by {@linkplain Calendar#DAY_OF_WEEK}
+     * @param showOtherMonths true if a month starting on the first day of the week
+     *                        shows a week of the previous month first
+     * @return the grid of the month
+     */
+    @NonNull
+    static MonthGrid get(@NonNull CalendarDay month, int firstDayOfWeek, boolean showOtherMonths) {
+        int weekKey = SelectionStore.monthKey(month) * CalendarPagerView.DEFAULT_DAYS_IN_WEEK
+                + firstDayOfWeek - Calendar.SUNDAY;
+        int key = weekKey * 2 + (showOtherMonths ? 1 : 0);
+        synchronized (CACHE) {
+            MonthGrid grid = CACHE.get(key);
+            if (grid == null) {
+                grid = new MonthGrid(month.getYear(), month.getMonth(), firstDayOfWeek, showOtherMonths);
+                CACHE.put(key, grid);
+            }
+            return grid;
+        }
+    }
+
+    private final int firstEpochDay;
+    private final int leadingDays;
+    private final int daysInMonth;
+    private final CalendarDay[] days = new CalendarDay[CalendarPagerView.DAY_COUNT];
+
+    private MonthGrid(int year, int month, int firstDayOfWeek, boolean showOtherMonths) {
+        int firstOfMonth = CalendarMath.toEpochDay(year, month, 1);
+        int delta = firstDayOfWeek - CalendarMath.getDayOfWeek(firstOfMonth);
+        //If the delta is positive, we want to remove a week
+        boolean removeRow = showOtherMonths ? delta >= 0 : delta > 0;
+        if (removeRow) {
+            delta -= CalendarPagerView.DEFAULT_DAYS_IN_WEEK;
+        }
+
+        firstEpochDay = firstOfMonth + delta;
+        leadingDays = -delta;
+        daysInMonth = CalendarMath.getDaysInMonth(year, month);
+        for (int i = 0; i < CalendarPagerView.DAY_COUNT; i++) {
+            days[i] = CalendarDay.fromEpochDay(firstEpochDay + i);
+        }
+    }
+
+    /**
+     * @return the first day of the grid, as an epoch day
+     */
+    int getFirstEpochDay() {
+        return firstEpochDay;
+    }
+
+    /**
+     * @param index index of the day in the grid
+     * @return the day, as an epoch day
+     */
+    int getEpochDay(int index) {
+        return firstEpochDay + index;
+    }
+
+    /**
+     * @return number of days of the previous month before the first of the month
+     */
+    int getLeadingDays() {
+        return leadingDays;
+    }
+
+    /**
+     * @return number of days in the month
+     */
+    int getDaysInMonth() {
+        return daysInMonth;
+    }
+
+    /**
+     * @return number of days of the next month after the last of the month
+     */
+    int getTrailingDays() {
+        return CalendarPagerView.DAY_COUNT - leadingDays - daysInMonth;
+    }
+
+    /**
+     * @param index index of the day in the grid
+     * @return true if the day is in the month, rather than the previous or next one
+     */
+    boolean isInMonth(int index) {
+        return index >= leadingDays && index < leadingDays + daysInMonth;
+    }
+
+    /**
+     * @param index index of the day in the grid
+     * @return the day
+     */
+    @NonNull
+    CalendarDay getDay(int index) {
+        return days[index];
+    }
+
+    /**
+     * @param dest array to copy the days of the grid to
+     */
+    void copyDays(CalendarDay[] dest) {
+        System.arraycopy(days, 0, dest, 0, CalendarPagerView.DAY_COUNT);
+    }
+}
@@ -1,6 +1,7 @@
 package com.prolificinteractive.materialcalendarview;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.support.v4.view.PagerAdapter;
 import android.view.View;
 import android.view.ViewGroup;
@@ -13,15 +14,24 @@ import com.prolificinteractive.materialcalendarview.format.WeekDayFormatter;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Pager adapter backing the calendar view
  */
 class MonthPagerAdapter extends PagerAdapter {
 
-    private final ArrayDeque<MonthView> currentViews;
+    /**
+     * Maximum number of detached pages kept for reuse.
+     * The pager keeps at most one page on each side of the current one alive,
+     * so a fling never needs more than this many spares.
+     */
+    private static final int MAX_RECYCLED_VIEWS = 3;
+
+    private final ArrayDeque<CalendarPagerView> currentViews;
+    private final ArrayDeque<CalendarPagerView> recycledViews;
 
     private final MaterialCalendarView mcv;
     private TitleFormatter titleFormatter = null;
@@ -33,18 +43,23 @@ class MonthPagerAdapter extends PagerAdapter {
     private CalendarDay minDate = null;
     private CalendarDay maxDate = null;
     private DateRangeIndex rangeIndex;
-    private List<CalendarDay> selectedDates = new ArrayList<>();
+    private DateSelection selectedDates = new SelectionStore();
     private WeekDayFormatter weekDayFormatter = WeekDayFormatter.DEFAULT;
     private DayFormatter dayFormatter = DayFormatter.DEFAULT;
     private List<DayViewDecorator> decorators = new ArrayList<>();
     private List<DecoratorResult> decoratorResults = null;
+    private Executor decoratorExecutor = null;
+    private final DecorationCache decorationCache = new DecorationCache();
+    private DecoratorProfiler decoratorProfiler = null;
     private int firstDayOfTheWeek = Calendar.SUNDAY;
     private boolean selectionEnabled = true;
+    private boolean flatRendering = false;
+    private boolean sharedWeekDayHeader = false;
 
     MonthPagerAdapter(MaterialCalendarView mcv) {
         this.mcv = mcv;
         currentViews = new ArrayDeque<>();
-        currentViews.iterator();
+        recycledViews = new ArrayDeque<>(MAX_RECYCLED_VIEWS);
         setRangeDates(null, null);
     }
 
@@ -55,19 +70,118 @@ class MonthPagerAdapter extends PagerAdapter {
     }
 
     public void invalidateDecorators() {
+        decorationCache.invalidate();
         decoratorResults = new ArrayList<>();
         for (DayViewDecorator decorator : decorators) {
-            DayViewFacade facade = new DayViewFacade();
-            decorator.decorate(facade);
+            DayViewFacade facade = decorate(decorator);
             if (facade.isDecorated()) {
                 decoratorResults.add(new DecoratorResult(decorator, facade));
             }
         }
-        for (MonthView monthView : currentViews) {
+        for (CalendarPagerView monthView : currentViews) {
             monthView.setDayViewDecorators(decoratorResults);
         }
     }
 
+    /**
+     * @param executor executor to resolve decorators on, or null to resolve them on the main thread
+     */
+    public void setDecoratorExecutor(@Nullable Executor executor) {
+        if (decoratorExecutor == executor) {
+            return;
+        }
+        decoratorExecutor = executor;
+        for (CalendarPagerView monthView : currentViews) {
+            monthView.setDecoratorExecutor(executor);
+        }
+        if (decoratorResults != null) {
+            invalidateDecorators();
+        }
+    }
+
+    @Nullable
+    public Executor getDecoratorExecutor() {
+        return decoratorExecutor;
+    }
+
+    /**
+     * @param profiler profiler to record the cost of decorators to, or null to not measure them
+     */
+    public void setDecoratorProfiler(@Nullable DecoratorProfiler profiler) {
+        decoratorProfiler = profiler;
+        for (CalendarPagerView monthView : currentViews) {
+            monthView.setDecoratorProfiler(profiler);
+        }
+    }
+
+    @Nullable
+    public DecoratorProfiler getDecoratorProfiler() {
+        return decoratorProfiler;
+    }
+
+    private DayViewFacade decorate(DayViewDecorator decorator) {
+        DayViewFacade facade = new DayViewFacade();
+        if (decoratorProfiler == null) {
+            decorator.decorate(facade);
+        } else {
+            long start = System.nanoTime();
+            decorator.decorate(facade);
+            decoratorProfiler.recordDecorate(decorator, System.nanoTime() - start);
+        }
+        return facade;
+    }
+
+    /**
+     * Gather the decorations of one decorator again and re-resolve it on every page,
+     * reusing the results of every other decorator
+     *
+     * @param decorator decorator that changed
+     */
+    public void invalidateDecorator(DayViewDecorator decorator) {
+        if (decoratorResults == null || !decorators.contains(decorator)) {
+            return;
+        }
+        decorationCache.invalidate();
+        DayViewFacade facade = decorate(decorator);
+
+        boolean found = false;
+        for (int i = 0; i < decoratorResults.size(); i++) {
+            if (decoratorResults.get(i).decorator != decorator) {
+                continue;
+            }
+            found = true;
+            if (!facade.isDecorated()) {
+                break;
+            }
+            DecoratorResult result = new DecoratorResult(decorator, facade);
+            decoratorResults.set(i, result);
+            for (CalendarPagerView monthView : currentViews) {
+                monthView.invalidateDecorator(i, result);
+            }
+        }
+
+        if (found != facade.isDecorated()) {
+            //The decorator started or stopped having decorations, so the results change shape
+            invalidateDecorators();
+        }
+    }
+
+    /**
+     * Re-resolve every decorator for the days in a range, on the pages that show them.
+     * The decorations of each decorator are reused.
+     *
+     * @param from first day to update
+     * @param to   last day to update
+     */
+    public void invalidateDecorators(@NonNull CalendarDay from, @NonNull CalendarDay to) {
+        int fromEpochDay = Math.min(from.toEpochDay(), to.toEpochDay());
+        int toEpochDay = Math.max(from.toEpochDay(), to.toEpochDay());
+        decorationCache.invalidate();
+        for (CalendarPagerView monthView : currentViews) {
+            monthView.invalidateDecorators(fromEpochDay, toEpochDay);
+        }
+    }
+
     @Override
     public int getCount() {
         return rangeIndex.getCount();
@@ -93,10 +207,13 @@ class MonthPagerAdapter extends PagerAdapter {
 
     @Override
     public int getItemPosition(Object object) {
-        if (!(object instanceof MonthView)) {
+        if (!(object instanceof CalendarPagerView)) {
+            return POSITION_NONE;
+        }
+        CalendarPagerView monthView = (CalendarPagerView) object;
+        if (!isCurrentRenderer(monthView)) {
             return POSITION_NONE;
         }
-        MonthView monthView = (MonthView) object;
         CalendarDay month = monthView.getMonth();
         if (month == null) {
             return POSITION_NONE;
@@ -111,7 +228,19 @@ class MonthPagerAdapter extends PagerAdapter {
     @Override
     public Object instantiateItem(ViewGroup container, int position) {
         CalendarDay month = getItem(position);
-        MonthView monthView = new MonthView(mcv, month, firstDayOfTheWeek);
+        CalendarPagerView monthView = recycledViews.poll();
+        if (monthView == null) {
+            monthView = flatRendering
+                    ? new FlatMonthView(mcv, month, firstDayOfTheWeek, !sharedWeekDayHeader)
+                    : new MonthView(mcv, month, firstDayOfTheWeek, !sharedWeekDayHeader);
+            monthView.setShowOtherDates(showOtherDates);
+            monthView.setMinimumDate(minDate);
+            monthView.setMaximumDate(maxDate);
+        } else {
+            //Settings that change the days may have changed while the view was detached,
+            //the rest are no-ops otherwise
+            monthView.bind(month, firstDayOfTheWeek, showOtherDates, minDate, maxDate);
+        }
         monthView.setAlpha(0);
         monthView.setSelectionEnabled(selectionEnabled);
 
@@ -126,14 +255,14 @@ class MonthPagerAdapter extends PagerAdapter {
         if (weekDayTextAppearance != null) {
             monthView.setWeekDayTextAppearance(weekDayTextAppearance);
         }
-        monthView.setShowOtherDates(showOtherDates);
-        monthView.setMinimumDate(minDate);
-        monthView.setMaximumDate(maxDate);
         monthView.setSelectedDates(selectedDates);
 
         container.addView(monthView);
         currentViews.add(monthView);
 
+        monthView.setDecoratorExecutor(decoratorExecutor);
+        monthView.setDecorationCache(decorationCache);
+        monthView.setDecoratorProfiler(decoratorProfiler);
         monthView.setDayViewDecorators(decoratorResults);
 
         return monthView;
@@ -141,23 +270,72 @@ class MonthPagerAdapter extends PagerAdapter {
 
     public void setFirstDayOfWeek(int day) {
         firstDayOfTheWeek = day;
-        for (MonthView monthView : currentViews) {
+        for (CalendarPagerView monthView : currentViews) {
             monthView.setFirstDayOfWeek(firstDayOfTheWeek);
+            //Days move between cells, so the checked cells change too
+            monthView.setSelectedDates(selectedDates);
         }
     }
 
     public void setSelectionEnabled(boolean enabled) {
         selectionEnabled = enabled;
-        for (MonthView monthView : currentViews) {
+        for (CalendarPagerView monthView : currentViews) {
             monthView.setSelectionEnabled(selectionEnabled);
         }
     }
 
     @Override
     public void destroyItem(ViewGroup container, int position, Object object) {
-        MonthView monthView = (MonthView) object;
+        CalendarPagerView monthView = (CalendarPagerView) object;
         currentViews.remove(monthView);
         container.removeView(monthView);
+        if (isCurrentRenderer(monthView) && recycledViews.size() < MAX_RECYCLED_VIEWS) {
+            recycledViews.push(monthView);
+        }
+    }
+
+    /**
+     * Switch between pages of child views and pages drawn on a single canvas.
+     * Every page is recreated.
+     *
+     * @param enabled true to draw pages on a single canvas
+     */
+    public void setFlatRenderingEnabled(boolean enabled) {
+        if (flatRendering == enabled) {
+            return;
+        }
+        flatRendering = enabled;
+        recycledViews.clear();
+        notifyDataSetChanged();
+    }
+
+    public boolean isFlatRenderingEnabled() {
+        return flatRendering;
+    }
+
+    /**
+     * Switch between pages with their own week day header and pages of days only,
+     * for when the calendar shows the header above the pager.
+     * Every page is recreated.
+     *
+     * @param enabled true to leave the week day header out of pages
+     */
+    public void setSharedWeekDayHeaderEnabled(boolean enabled) {
+        if (sharedWeekDayHeader == enabled) {
+            return;
+        }
+        sharedWeekDayHeader = enabled;
+        recycledViews.clear();
+        notifyDataSetChanged();
+    }
+
+    public boolean isSharedWeekDayHeaderEnabled() {
+        return sharedWeekDayHeader;
+    }
+
+    private boolean isCurrentRenderer(CalendarPagerView view) {
+        return (view instanceof FlatMonthView) == flatRendering
+                && view.isShowingWeekDays() != sharedWeekDayHeader;
     }
 
     @Override
@@ -171,7 +349,7 @@ class MonthPagerAdapter extends PagerAdapter {
 
     public void setSelectionColor(int color) {
         this.color = color;
-        for (MonthView monthView : currentViews) {
+        for (CalendarPagerView monthView : currentViews) {
             monthView.setSelectionColor(color);
         }
     }
@@ -181,28 +359,30 @@ class MonthPagerAdapter extends PagerAdapter {
             return;
         }
         this.dateTextAppearance = taId;
-        for (MonthView monthView : currentViews) {
+        for (CalendarPagerView monthView : currentViews) {
             monthView.setDateTextAppearance(taId);
         }
     }
 
     public void setShowOtherDates(@ShowOtherDates int showFlags) {
         this.showOtherDates = showFlags;
-        for (MonthView monthView : currentViews) {
+        for (CalendarPagerView monthView : currentViews) {
             monthView.setShowOtherDates(showFlags);
+            //Showing other months can move days between cells, so the checked cells change too
+            monthView.setSelectedDates(selectedDates);
         }
     }
 
     public void setWeekDayFormatter(WeekDayFormatter formatter) {
         this.weekDayFormatter = formatter;
-        for (MonthView monthView : currentViews) {
+        for (CalendarPagerView monthView : currentViews) {
             monthView.setWeekDayFormatter(formatter);
         }
     }
 
     public void setDayFormatter(DayFormatter formatter) {
         this.dayFormatter = formatter;
-        for (MonthView monthView : currentViews) {
+        for (CalendarPagerView monthView : currentViews) {
             monthView.setDayFormatter(formatter);
         }
     }
@@ -217,7 +397,7 @@ class MonthPagerAdapter extends PagerAdapter {
             return;
         }
         this.weekDayTextAppearance = taId;
-        for (MonthView monthView : currentViews) {
+        for (CalendarPagerView monthView : currentViews) {
             monthView.setWeekDayTextAppearance(taId);
         }
     }
@@ -225,21 +405,19 @@ class MonthPagerAdapter extends PagerAdapter {
     public void setRangeDates(CalendarDay min, CalendarDay max) {
         this.minDate = min;
         this.maxDate = max;
-        for (MonthView monthView : currentViews) {
+        for (CalendarPagerView monthView : currentViews) {
             monthView.setMinimumDate(min);
             monthView.setMaximumDate(max);
         }
 
-        if (min == null) {
-            Calendar worker = CalendarUtils.getInstance();
-            worker.add(Calendar.YEAR, -200);
-            min = CalendarDay.from(worker);
-        }
-
-        if (max == null) {
-            Calendar worker = CalendarUtils.getInstance();
-            worker.add(Calendar.YEAR, 200);
-            max = CalendarDay.from(worker);
+        if (min == null || max == null) {
+            CalendarDay today = CalendarDay.today();
+            if (min == null) {
+                min = CalendarDay.from(today.getYear() - 200, today.getMonth(), 1);
+            }
+            if (max == null) {
+                max = CalendarDay.from(today.getYear() + 200, today.getMonth(), 1);
+            }
         }
 
         rangeIndex = new DateRangeIndex(min, max);
@@ -253,36 +431,150 @@ class MonthPagerAdapter extends PagerAdapter {
         invalidateSelectedDates();
     }
 
+    /**
+     * Switch between storing the selection as individual days or as intervals.
+     * The current selection is kept.
+     *
+     * @param enabled true to store the selection as intervals
+     */
+    public void setRangeSelectionEnabled(boolean enabled) {
+        if (enabled == (selectedDates instanceof RangeSelection)) {
+            return;
+        }
+        DateSelection selection = enabled ? new RangeSelection() : new SelectionStore();
+        for (CalendarDay day : selectedDates.getDates()) {
+            selection.add(day);
+        }
+        selectedDates = selection;
+    }
+
+    /**
+     * @return the selected intervals when the selection is stored as intervals, otherwise null
+     * @see RangeSelection#getIntervals()
+     */
+    @Nullable
+    public int[] getSelectedIntervals() {
+        if (selectedDates instanceof RangeSelection) {
+            return ((RangeSelection) selectedDates).getIntervals();
+        }
+        return null;
+    }
+
+    /**
+     * Replace the selection with intervals from {@linkplain #getSelectedIntervals()}.
+     * The selection must be stored as intervals.
+     *
+     * @param intervals pairs of first and last epoch days
+     */
+    public void setSelectedIntervals(@NonNull int[] intervals) {
+        selectedDates.clear();
+        ((RangeSelection) selectedDates).addIntervals(intervals);
+        invalidateSelectedDates();
+    }
+
+    /**
+     * Replace the selection with every day between two days, inclusive,
+     * limited to the minimum and maximum dates.
+     * This does nothing unless the selection is stored as intervals.
+     *
+     * @param first first day of the range
+     * @param last  last day of the range
+     * @return false if the selection is not stored as intervals, or if no day of the range
+     * is between the minimum and maximum dates, which leaves the selection empty
+     * @see #setRangeSelectionEnabled(boolean)
+     * @see #getFirstSelected()
+     * @see #getLastSelected()
+     */
+    public boolean selectRange(@NonNull CalendarDay first, @NonNull CalendarDay last) {
+        if (!(selectedDates instanceof RangeSelection)) {
+            return false;
+        }
+        boolean selected = ((RangeSelection) selectedDates).setRange(first, last, minDate, maxDate);
+        invalidateSelectedDates();
+        return selected;
+    }
+
+    /**
+     * @return the earliest selected day, null if nothing is selected
+     */
+    @Nullable
+    public CalendarDay getFirstSelected() {
+        return selectedDates.getFirst();
+    }
+
+    /**
+     * @return the latest selected day, null if nothing is selected
+     */
+    @Nullable
+    public CalendarDay getLastSelected() {
+        return selectedDates.getLast();
+    }
+
     public void setDateSelected(CalendarDay day, boolean selected) {
-        if (selected) {
-            if (!selectedDates.contains(day)) {
-                selectedDates.add(day);
-                invalidateSelectedDates();
+        boolean changed = selected ? selectedDates.add(day) : selectedDates.remove(day);
+        if (changed) {
+            invalidateSelectedDates();
+        }
+    }
+
+    /**
+     * Change the selection of many days, refreshing the pages once
+     *
+     * @param days     days to change, null entries are ignored
+     * @param selected true to select the days, false to unselect them
+     * @return the days whose selection changed
+     */
+    @NonNull
+    public List<CalendarDay> setDatesSelected(@NonNull Collection<CalendarDay> days, boolean selected) {
+        ArrayList<CalendarDay> changed = new ArrayList<>();
+        for (CalendarDay day : days) {
+            if (day == null) {
+                continue;
             }
-        } else {
-            if (selectedDates.contains(day)) {
-                selectedDates.remove(day);
-                invalidateSelectedDates();
+            if (selected ? selectedDates.add(day) : selectedDates.remove(day)) {
+                changed.add(day);
             }
         }
+        if (!changed.isEmpty()) {
+            invalidateSelectedDates();
+        }
+        return changed;
+    }
+
+    /**
+     * Replace the selection with the given days, refreshing the pages once
+     *
+     * @param days days to select, null entries are ignored
+     */
+    public void setSelectedDates(@NonNull Collection<CalendarDay> days) {
+        selectedDates.clear();
+        for (CalendarDay day : days) {
+            if (day != null) {
+                selectedDates.add(day);
+            }
+        }
+        invalidateSelectedDates();
+    }
+
+    /**
+     * @param day day to check
+     * @return true if the day is selected
+     */
+    public boolean isSelected(@NonNull CalendarDay day) {
+        return selectedDates.contains(day);
     }
 
     private void invalidateSelectedDates() {
         validateSelectedDates();
-        for (MonthView monthView : currentViews) {
+        for (CalendarPagerView monthView : currentViews) {
             monthView.setSelectedDates(selectedDates);
         }
     }
 
     private void validateSelectedDates() {
-        for (int i = 0; i < selectedDates.size(); i++) {
-            CalendarDay date = selectedDates.get(i);
-
-            if ((minDate != null && minDate.isAfter(date)) || (maxDate != null && maxDate.isBefore(date))) {
-                selectedDates.remove(i);
-                mcv.onDateUnselected(date);
-                i -= 1;
-            }
+        List<CalendarDay> removed = selectedDates.retainRange(minDate, maxDate);
+        if (!removed.isEmpty()) {
+            mcv.onDatesUnselected(removed);
         }
     }
 
@@ -290,9 +582,19 @@ class MonthPagerAdapter extends PagerAdapter {
         return rangeIndex.getItem(position);
     }
 
+    /**
+     * @return all selected dates in chronological order
+     */
     @NonNull
     public List<CalendarDay> getSelectedDates() {
-        return Collections.unmodifiableList(selectedDates);
+        return selectedDates.getDates();
+    }
+
+    /**
+     * @return the most recently selected date, or null if there is no selection
+     */
+    public CalendarDay getSelectedDate() {
+        return selectedDates.getLastSelected();
     }
 
     protected int getDateTextAppearance() {
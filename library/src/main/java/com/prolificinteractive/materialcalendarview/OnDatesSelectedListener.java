@@ -0,0 +1,21 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.support.annotation.NonNull;
+
+import java.util.List;
+
+/**
+ * The callback used to indicate several dates have been selected or deselected at once
+ */
+public interface OnDatesSelectedListener {
+
+    /**
+     * Called once for a batch of dates that changed together,
+     * such as when the selection is cleared.
+     *
+     * @param widget   the view associated with this listener
+     * @param dates    the dates that were selected or unselected, in chronological order
+     * @param selected true if the dates are now selected, false otherwise
+     */
+    void onDatesSelected(@NonNull MaterialCalendarView widget, @NonNull List<CalendarDay> dates, boolean selected);
+}
@@ -0,0 +1,25 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.support.annotation.NonNull;
+
+/**
+ * The callback used to indicate a range of dates has been selected
+ */
+public interface OnRangeSelectedListener {
+
+    /**
+     * Called when a range of dates is selected, either by the user in
+     * {@linkplain MaterialCalendarView#SELECTION_MODE_RANGE} or by
+     * {@linkplain MaterialCalendarView#selectRange(CalendarDay, CalendarDay)}.
+     * When the user picks the first day of a new range, both days are the same.
+     * <p/>
+     * The range replaces the previously selected range. The days of the previous range
+     * are not reported to an {@linkplain OnDateSelectedListener} or
+     * {@linkplain OnDatesSelectedListener}, so keep only the latest range.
+     *
+     * @param widget   the view associated with this listener
+     * @param firstDay the first day of the range
+     * @param lastDay  the last day of the range, never before firstDay
+     */
+    void onRangeSelected(@NonNull MaterialCalendarView widget, @NonNull CalendarDay firstDay, @NonNull CalendarDay lastDay);
+}
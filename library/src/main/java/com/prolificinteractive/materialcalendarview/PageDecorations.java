@@ -0,0 +1,408 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * The decorators of one page, and which days of the page each of them applies to.
+ * <p/>
+ * Each decorator is resolved to a mask of the grid with {@linkplain DecoratorMasks}.
+ * The masks are combined into one {@linkplain DayViewFacade} per combination of decorators,
+ * shared by every day with that combination, and only days whose decorators changed are applied again.
+ * <p/>
+ * With an executor, decorators other than {@linkplain DateSetDecorator} are resolved in the
+ * background and their masks are applied when they arrive. Each decorator keeps the token of its
+ * latest request, so older requests, and requests for a grid that is no longer shown, are dropped.
+ * Everything but the background work happens on the main thread.
+ * <p/>
+ * With a {@linkplain DecorationCache}, the masks of a grid are remembered once every decorator
+ * is resolved, and a grid shown again takes its masks from the cache instead of the decorators.
+ */
+class PageDecorations {
+
+    /**
+     * Receives the combined decorations of each day
+     */
+    interface Target {
+
+        /**
+         * @param index  index of the day in the grid
+         * @param facade the combined decorations of the day, only valid during this call
+         */
+        void applyFacade(int index, DayViewFacade facade);
+    }
+
+    /**
+     * Posts to the main thread. Called from the threads of the decorator executor.
+     */
+    private static final Executor MAIN_THREAD = new Executor() {
+        @Override
+        public void execute(@NonNull Runnable command) {
+            MainHandlerHolder.HANDLER.post(command);
+        }
+    };
+
+    /**
+     * Creates the handler the first time it is used, from any thread, without locking
+     */
+    private static final class MainHandlerHolder {
+        static final Handler HANDLER = new Handler(Looper.getMainLooper());
+    }
+
+    private final Target target;
+    private final Executor mainThread;
+    private final int dayCount;
+    /**
+     * Mask of every day of the grid
+     */
+    private final long gridMask;
+    private final boolean[] scratch;
+
+    private final ArrayList<DecoratorResult> results = new ArrayList<>();
+    private long[] masks = new long[0];
+    /**
+     * Token of the latest background request of each decorator, 0 if none is pending
+     */
+    private int[] tokens = new int[0];
+    private int lastToken = 0;
+    private int firstEpochDay;
+    /**
+     * Changes whenever the grid or the decorators change, so pending work can be skipped
+     */
+    private volatile int generation = 0;
+
+    private Executor executor = null;
+    private DecorationCache cache = null;
+    private DecoratorProfiler profiler = null;
+    /**
+     * Generation of the cache the masks were resolved for
+     */
+    private int cacheGeneration = 0;
+    private final DayViewFacade facadeAccumulator = new DayViewFacade();
+    private final FacadeCombinations combinations = new FacadeCombinations();
+
+    /**
+     * @param target        receives the decorations of each day
+     * @param dayCount      number of days in the grid, at most {@value DecoratorMasks#MAX_DAYS}
+     * @param firstEpochDay first day of the grid
+     */
+    PageDecorations(@NonNull Target target, int dayCount, int firstEpochDay) {
+        this(target, dayCount, firstEpochDay, MAIN_THREAD);
+    }
+
+    /**
+     * @param mainThread executor that runs on the thread that owns the page
+     */
+    PageDecorations(@NonNull Target target, int dayCount, int firstEpochDay, @NonNull Executor mainThread) {
+        this.target = target;
+        this.mainThread = mainThread;
+        this.dayCount = dayCount;
+        this.gridMask = dayCount >= DecoratorMasks.MAX_DAYS ? -1L : (1L << dayCount) - 1;
+        this.scratch = new boolean[dayCount];
+        this.firstEpochDay = firstEpochDay;
+    }
+
+    /**
+     * @param executor executor to resolve decorators on, or null to resolve them immediately.
+     *                 Takes effect the next time decorators are resolved.
+     */
+    void setExecutor(@Nullable Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @param cache grids shared with other pages, or null to always ask the decorators.
+     *              Takes effect the next time decorators are resolved.
+     */
+    void setCache(@Nullable DecorationCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * @param profiler profiler to record the cost of decorators to, or null to not measure them
+     */
+    void setProfiler(@Nullable DecoratorProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Replace the decorators of the page.
+     * Decorators resolved in the background keep their previous days until their new days arrive.
+     *
+     * @param newResults    the new decorators
+     * @param firstEpochDay first day of the grid
+     */
+    void setResults(@Nullable List<DecoratorResult> newResults, int firstEpochDay) {
+        ArrayList<DecoratorResult> oldResults = null;
+        long[] oldMasks = masks;
+        if (executor != null && this.firstEpochDay == firstEpochDay) {
+            oldResults = new ArrayList<>(results);
+        }
+
+        results.clear();
+        if (newResults != null) {
+            results.addAll(newResults);
+        }
+        this.firstEpochDay = firstEpochDay;
+        resolve(oldResults, oldMasks);
+    }
+
+    /**
+     * The days of the grid moved, resolve every decorator again
+     *
+     * @param firstEpochDay first day of the grid
+     */
+    void setFirstEpochDay(int firstEpochDay) {
+        this.firstEpochDay = firstEpochDay;
+        resolve(null, null);
+    }
+
+    /**
+     * Resolve one decorator again after its decorations or days changed.
+     * Only the days it applied to before or applies to now are updated.
+     *
+     * @param index  index of the decorator in the results
+     * @param result the new result for the decorator
+     */
+    void invalidateResult(int index, DecoratorResult result) {
+        results.set(index, result);
+        combinations.clear();
+        updateCacheGeneration();
+        long oldMask = masks[index];
+        if (isAsync(result.decorator)) {
+            //Show the new decorations on the old days until the new days arrive
+            apply(oldMask);
+            request(index, result.decorator);
+            return;
+        }
+        long mask = getMask(result.decorator, firstEpochDay, scratch, gridMask, profiler);
+        masks[index] = mask;
+        store();
+        apply(oldMask | mask);
+    }
+
+    /**
+     * Resolve every decorator again for some days only.
+     * Decorators resolved in the background are requested for the whole grid.
+     *
+     * @param fromEpochDay first day to update
+     * @param toEpochDay   last day to update
+     */
+    void invalidateRange(int fromEpochDay, int toEpochDay) {
+        final long range = DecoratorMasks.getRangeMask(firstEpochDay, dayCount, fromEpochDay, toEpochDay);
+        updateCacheGeneration();
+        if (range == 0) {
+            //Nothing changed on this grid, it can be remembered for the new generation
+            store();
+            return;
+        }
+        long changed = 0;
+        for (int j = 0; j < masks.length; j++) {
+            DayViewDecorator decorator = results.get(j).decorator;
+            if (isAsync(decorator)) {
+                request(j, decorator);
+                continue;
+            }
+            long oldMask = masks[j];
+            long mask = (oldMask & ~range) | getMask(decorator, firstEpochDay, scratch, range, profiler);
+            masks[j] = mask;
+            changed |= oldMask ^ mask;
+        }
+        store();
+        apply(changed);
+    }
+
+    private boolean isAsync(DayViewDecorator decorator) {
+        //Date sets are an index owned by the main thread, and cheaper to look up than to post
+        return executor != null && !(decorator instanceof DateSetDecorator);
+    }
+
+    /**
+     * Resolve every decorator for the whole grid
+     *
+     * @param oldResults decorators that were resolved for the same grid, or null
+     * @param oldMasks   masks of the old decorators
+     */
+    private void resolve(@Nullable List<DecoratorResult> oldResults, @Nullable long[] oldMasks) {
+        generation++;
+        combinations.clear();
+        updateCacheGeneration();
+        final int decoratorCount = results.size();
+        tokens = new int[decoratorCount];
+        long[] cached = cache == null ? null : cache.get(firstEpochDay, decoratorCount);
+        if (cached != null) {
+            masks = cached;
+            apply(-1L);
+            return;
+        }
+        masks = new long[decoratorCount];
+        for (int j = 0; j < decoratorCount; j++) {
+            DayViewDecorator decorator = results.get(j).decorator;
+            if (isAsync(decorator)) {
+                masks[j] = findMask(decorator, oldResults, oldMasks);
+                request(j, decorator);
+            } else {
+                masks[j] = getMask(decorator, firstEpochDay, scratch, gridMask, profiler);
+            }
+        }
+        store();
+        apply(-1L);
+    }
+
+    private static long findMask(DayViewDecorator decorator, @Nullable List<DecoratorResult> oldResults, long[] oldMasks) {
+        if (oldResults != null) {
+            for (int i = 0; i < oldResults.size(); i++) {
+                if (oldResults.get(i).decorator == decorator) {
+                    return oldMasks[i];
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Resolve a decorator for some days, measuring it if there is a profiler
+     */
+    private static long getMask(
+            DayViewDecorator decorator,
+            int firstEpochDay,
+            boolean[] scratch,
+            long days,
+            @Nullable DecoratorProfiler profiler
+    ) {
+        if (profiler == null) {
+            return DecoratorMasks.getMask(decorator, firstEpochDay, scratch, days);
+        }
+        long start = System.nanoTime();
+        long mask = DecoratorMasks.getMask(decorator, firstEpochDay, scratch, days);
+        profiler.recordShouldDecorate(decorator, DecoratorMasks.getCallCount(decorator, days), System.nanoTime() - start);
+        return mask;
+    }
+
+    private void request(int index, DayViewDecorator decorator) {
+        int token = ++lastToken;
+        tokens[index] = token;
+        executor.execute(new ResolveTask(index, token, decorator, generation, firstEpochDay, profiler));
+    }
+
+    private void deliver(int index, int token, int firstEpochDay, long mask) {
+        if (index >= tokens.length || tokens[index] != token || this.firstEpochDay != firstEpochDay) {
+            //A newer request was made, or the grid moved
+            return;
+        }
+        tokens[index] = 0;
+        long oldMask = masks[index];
+        masks[index] = mask;
+        store();
+        apply(oldMask ^ mask);
+    }
+
+    private void updateCacheGeneration() {
+        if (cache != null) {
+            cacheGeneration = cache.getGeneration();
+        }
+    }
+
+    /**
+     * Remember the masks of the grid, once no decorator is waiting for its days
+     */
+    private void store() {
+        if (cache == null) {
+            return;
+        }
+        for (int token : tokens) {
+            if (token != 0) {
+                return;
+            }
+        }
+        cache.put(firstEpochDay, cacheGeneration, masks);
+    }
+
+    /**
+     * @param days mask of the days to apply decorators to
+     */
+    private void apply(long days) {
+        days &= gridMask;
+        if (days == 0) {
+            return;
+        }
+        final long start = profiler == null ? 0 : System.nanoTime();
+        final int decoratorCount = results.size();
+        for (int i = 0; i < dayCount; i++) {
+            if (!DecoratorMasks.isSet(days, i)) {
+                continue;
+            }
+            if (decoratorCount <= FacadeCombinations.MAX_DECORATORS) {
+                long combination = 0;
+                for (int j = 0; j < decoratorCount; j++) {
+                    if (DecoratorMasks.isSet(masks[j], i)) {
+                        combination |= 1L << j;
+                    }
+                }
+                target.applyFacade(i, combinations.get(combination, results));
+                continue;
+            }
+            //Too many decorators to name a combination, merge them for each day
+            facadeAccumulator.reset();
+            for (int j = 0; j < decoratorCount; j++) {
+                if (DecoratorMasks.isSet(masks[j], i)) {
+                    results.get(j).result.applyTo(facadeAccumulator);
+                }
+            }
+            target.applyFacade(i, facadeAccumulator);
+        }
+        if (profiler != null) {
+            profiler.recordPageApply(Long.bitCount(days), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Resolves one decorator on the executor, then delivers the mask on the main thread
+     */
+    private class ResolveTask implements Runnable {
+
+        private final int index;
+        private final int token;
+        private final DayViewDecorator decorator;
+        private final int generation;
+        private final int firstEpochDay;
+        private final DecoratorProfiler profiler;
+
+        ResolveTask(
+                int index,
+                int token,
+                DayViewDecorator decorator,
+                int generation,
+                int firstEpochDay,
+                @Nullable DecoratorProfiler profiler
+        ) {
+            this.index = index;
+            this.token = token;
+            this.decorator = decorator;
+            this.generation = generation;
+            this.firstEpochDay = firstEpochDay;
+            this.profiler = profiler;
+        }
+
+        @Override
+        public void run() {
+            if (generation != PageDecorations.this.generation) {
+                //The page was rebound or its decorators replaced before we ran
+                return;
+            }
+            final long mask = getMask(decorator, firstEpochDay, new boolean[dayCount], gridMask, profiler);
+            mainThread.execute(new Runnable() {
+                @Override
+                public void run() {
+                    deliver(index, token, firstEpochDay, mask);
+                }
+            });
+        }
+    }
+}
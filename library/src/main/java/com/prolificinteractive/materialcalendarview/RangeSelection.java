@@ -0,0 +1,216 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Set of selected days, stored as an {@linkplain IntervalSet}.
+ * This is the selection used for range selection mode.
+ * <p/>
+ * Selecting a range of any length takes constant space and membership checks are a binary search
+ * over the intervals. On top of the intervals, this tracks the most recently selected day.
+ */
+class RangeSelection implements DateSelection {
+
+    private final IntervalSet intervals = new IntervalSet();
+
+    private CalendarDay lastSelected = null;
+
+    /**
+     * Cache for calls to {@linkplain #getDates()}
+     */
+    private List<CalendarDay> dates = null;
+
+    @Override
+    public boolean add(@NonNull CalendarDay day) {
+        return addRange(day, day);
+    }
+
+    /**
+     * Select every day between two days, inclusive
+     *
+     * @param first first day of the range
+     * @param last  last day of the range
+     * @return true if the selection changed
+     */
+    boolean addRange(@NonNull CalendarDay first, @NonNull CalendarDay last) {
+        int start = Math.min(first.toEpochDay(), last.toEpochDay());
+        int end = Math.max(first.toEpochDay(), last.toEpochDay());
+        lastSelected = last;
+        if (!intervals.add(start, end)) {
+            return false;
+        }
+        dates = null;
+        return true;
+    }
+
+    /**
+     * Replace the selection with every day between two days that is also between the minimum
+     * and maximum days, so no day outside of them is ever stored
+     *
+     * @param first first day of the range
+     * @param last  last day of the range
+     * @param min   earliest day that can be selected, null for no minimum
+     * @param max   latest day that can be selected, null for no maximum
+     * @return false if no day of the range can be selected, which leaves the selection empty
+     */
+    boolean setRange(@NonNull CalendarDay first, @NonNull CalendarDay last,
+                     @Nullable CalendarDay min, @Nullable CalendarDay max) {
+        clear();
+        if (first.isAfter(last)) {
+            CalendarDay tmp = first;
+            first = last;
+            last = tmp;
+        }
+        if (min != null && first.isBefore(min)) {
+            first = min;
+        }
+        if (max != null && last.isAfter(max)) {
+            last = max;
+        }
+        if (first.isAfter(last)) {
+            return false;
+        }
+        addRange(first, last);
+        return true;
+    }
+
+    @Override
+    public boolean remove(@NonNull CalendarDay day) {
+        int epochDay = day.toEpochDay();
+        if (!intervals.remove(epochDay)) {
+            return false;
+        }
+        if (lastSelected != null && lastSelected.toEpochDay() == epochDay) {
+            lastSelected = null;
+        }
+        dates = null;
+        return true;
+    }
+
+    @Override
+    public boolean contains(@NonNull CalendarDay day) {
+        return intervals.contains(day.toEpochDay());
+    }
+
+    @Override
+    public int getMonthMask(int monthKey) {
+        int year = SelectionStore.getYear(monthKey);
+        int month = SelectionStore.getMonth(monthKey);
+        int monthStart = CalendarMath.toEpochDay(year, month, 1);
+        //Months have at most 31 days, so the mask fits in an int
+        return (int) intervals.getDayMask(monthStart, CalendarMath.getDaysInMonth(year, month));
+    }
+
+    /**
+     * @param firstEpochDay first day of the window
+     * @param dayCount      number of days in the window, at most 64
+     * @return a mask with bit {@code n} set when day {@code firstEpochDay + n} is selected
+     */
+    long getDayMask(int firstEpochDay, int dayCount) {
+        return intervals.getDayMask(firstEpochDay, dayCount);
+    }
+
+    /**
+     * @return the selected intervals as pairs of first and last epoch days, in chronological order.
+     * This takes two entries per interval, no matter how long the intervals are.
+     * @see #addIntervals(int[])
+     */
+    @NonNull
+    int[] getIntervals() {
+        int count = intervals.getIntervalCount();
+        int[] pairs = new int[count * 2];
+        for (int i = 0; i < count; i++) {
+            pairs[i * 2] = intervals.getStart(i);
+            pairs[i * 2 + 1] = intervals.getEnd(i);
+        }
+        return pairs;
+    }
+
+    /**
+     * Select intervals returned by {@linkplain #getIntervals()}
+     *
+     * @param pairs pairs of first and last epoch days
+     * @return true if the selection changed
+     */
+    boolean addIntervals(@NonNull int[] pairs) {
+        boolean changed = false;
+        for (int i = 0; i + 1 < pairs.length; i += 2) {
+            changed |= addRange(CalendarDay.fromEpochDay(pairs[i]), CalendarDay.fromEpochDay(pairs[i + 1]));
+        }
+        return changed;
+    }
+
+    @Override
+    public void clear() {
+        intervals.clear();
+        lastSelected = null;
+        dates = null;
+    }
+
+    @Override
+    public int size() {
+        return intervals.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return intervals.isEmpty();
+    }
+
+    @Override
+    @Nullable
+    public CalendarDay getFirst() {
+        return intervals.getIntervalCount() == 0 ? null : CalendarDay.fromEpochDay(intervals.getStart(0));
+    }
+
+    @Override
+    @Nullable
+    public CalendarDay getLast() {
+        int count = intervals.getIntervalCount();
+        return count == 0 ? null : CalendarDay.fromEpochDay(intervals.getEnd(count - 1));
+    }
+
+    @Override
+    @Nullable
+    public CalendarDay getLastSelected() {
+        if (lastSelected != null && contains(lastSelected)) {
+            return lastSelected;
+        }
+        return getLast();
+    }
+
+    /**
+     * Expands every interval, so this costs one entry per selected day.
+     * <p/>
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public List<CalendarDay> getDates() {
+        if (dates == null) {
+            ArrayList<CalendarDay> list = new ArrayList<>(intervals.size());
+            for (int i = 0; i < intervals.getIntervalCount(); i++) {
+                IntervalSet.addDays(list, intervals.getStart(i), intervals.getEnd(i));
+            }
+            dates = Collections.unmodifiableList(list);
+        }
+        return dates;
+    }
+
+    @Override
+    @NonNull
+    public List<CalendarDay> retainRange(@Nullable CalendarDay min, @Nullable CalendarDay max) {
+        int minDay = min == null ? Integer.MIN_VALUE : min.toEpochDay();
+        int maxDay = max == null ? Integer.MAX_VALUE : max.toEpochDay();
+        List<CalendarDay> removed = intervals.retainRange(minDay, maxDay);
+        if (!removed.isEmpty()) {
+            dates = null;
+        }
+        return removed;
+    }
+}
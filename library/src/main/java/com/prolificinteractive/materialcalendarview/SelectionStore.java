@@ -0,0 +1,310 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Set of selected days, stored as one bitmask of days per month.
+ * This is the selection used for single and multiple selection modes.
+ * <p/>
+ * Months are kept sorted in parallel primitive arrays, in the same way as
+ * {@linkplain android.util.SparseIntArray}. Bit {@code n} of a month's mask is set
+ * when day {@code n + 1} of that month is selected.
+ */
+class SelectionStore implements DateSelection {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] monthKeys = new int[INITIAL_CAPACITY];
+    private int[] masks = new int[INITIAL_CAPACITY];
+    private int monthCount = 0;
+    private int dayCount = 0;
+
+    private CalendarDay lastSelected = null;
+
+    /**
+     * Cache for calls to {@linkplain #getDates()}
+     */
+    private List<CalendarDay> dates = null;
+
+    /**
+     * @param year  the year
+     * @param month the month as defined by {@linkplain java.util.Calendar}
+     * @return a key that orders months chronologically
+     */
+    static int monthKey(int year, int month) {
+        return year * 12 + month;
+    }
+
+    /**
+     * @param day the day
+     * @return the key of the month the day is in
+     */
+    static int monthKey(@NonNull CalendarDay day) {
+        return monthKey(day.getYear(), day.getMonth());
+    }
+
+    /**
+     * @param monthKey key from {@linkplain #monthKey(int, int)}
+     * @return the year of the month
+     */
+    static int getYear(int monthKey) {
+        return monthKey >= 0 ? monthKey / 12 : ((monthKey + 1) / 12) - 1;
+    }
+
+    /**
+     * @param monthKey key from {@linkplain #monthKey(int, int)}
+     * @return the month as defined by {@linkplain java.util.Calendar}
+     */
+    static int getMonth(int monthKey) {
+        return monthKey - getYear(monthKey) * 12;
+    }
+
+    /**
+     * @param mask a mask returned by {@linkplain #getMonthMask(int)}
+     * @param day  the day of the month
+     * @return true if the day is set in the mask
+     */
+    static boolean isDaySet(int mask, int day) {
+        return (mask & (1 << (day - 1))) != 0;
+    }
+
+    @Override
+    public boolean add(@NonNull CalendarDay day) {
+        int civil = CalendarMath.toCivil(day.toEpochDay());
+        int key = monthKey(CalendarMath.getYear(civil), CalendarMath.getMonth(civil));
+        int bit = 1 << (CalendarMath.getDay(civil) - 1);
+
+        int index = binarySearch(key);
+        if (index >= 0) {
+            if ((masks[index] & bit) != 0) {
+                return false;
+            }
+            masks[index] |= bit;
+        } else {
+            insert(~index, key, bit);
+        }
+        dayCount++;
+        lastSelected = day;
+        dates = null;
+        return true;
+    }
+
+    @Override
+    public boolean remove(@NonNull CalendarDay day) {
+        int civil = CalendarMath.toCivil(day.toEpochDay());
+        int key = monthKey(CalendarMath.getYear(civil), CalendarMath.getMonth(civil));
+        int bit = 1 << (CalendarMath.getDay(civil) - 1);
+
+        int index = binarySearch(key);
+        if (index < 0 || (masks[index] & bit) == 0) {
+            return false;
+        }
+        masks[index] &= ~bit;
+        if (masks[index] == 0) {
+            delete(index);
+        }
+        dayCount--;
+        if (lastSelected != null && lastSelected.toEpochDay() == day.toEpochDay()) {
+            lastSelected = null;
+        }
+        dates = null;
+        return true;
+    }
+
+    @Override
+    public boolean contains(@NonNull CalendarDay day) {
+        int civil = CalendarMath.toCivil(day.toEpochDay());
+        int mask = getMonthMask(monthKey(CalendarMath.getYear(civil), CalendarMath.getMonth(civil)));
+        return isDaySet(mask, CalendarMath.getDay(civil));
+    }
+
+    @Override
+    public int getMonthMask(int monthKey) {
+        int index = binarySearch(monthKey);
+        return index >= 0 ? masks[index] : 0;
+    }
+
+    @Override
+    public void clear() {
+        monthCount = 0;
+        dayCount = 0;
+        lastSelected = null;
+        dates = null;
+    }
+
+    @Override
+    public int size() {
+        return dayCount;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return dayCount == 0;
+    }
+
+    @Override
+    @Nullable
+    public CalendarDay getFirst() {
+        if (monthCount == 0) {
+            return null;
+        }
+        return CalendarDay.from(
+                getYear(monthKeys[0]),
+                getMonth(monthKeys[0]),
+                Integer.numberOfTrailingZeros(masks[0]) + 1
+        );
+    }
+
+    @Override
+    @Nullable
+    public CalendarDay getLast() {
+        if (monthCount == 0) {
+            return null;
+        }
+        int last = monthCount - 1;
+        return CalendarDay.from(
+                getYear(monthKeys[last]),
+                getMonth(monthKeys[last]),
+                32 - Integer.numberOfLeadingZeros(masks[last])
+        );
+    }
+
+    @Override
+    @Nullable
+    public CalendarDay getLastSelected() {
+        if (lastSelected != null) {
+            return lastSelected;
+        }
+        if (dayCount == 0) {
+            return null;
+        }
+        return getLast();
+    }
+
+    @Override
+    @NonNull
+    public List<CalendarDay> getDates() {
+        if (dates == null) {
+            ArrayList<CalendarDay> list = new ArrayList<>(dayCount);
+            for (int i = 0; i < monthCount; i++) {
+                addDays(list, monthKeys[i], masks[i]);
+            }
+            dates = Collections.unmodifiableList(list);
+        }
+        return dates;
+    }
+
+    @Override
+    @NonNull
+    public List<CalendarDay> retainRange(@Nullable CalendarDay min, @Nullable CalendarDay max) {
+        int minKey = Integer.MIN_VALUE;
+        int minKeep = -1;
+        if (min != null) {
+            int civil = CalendarMath.toCivil(min.toEpochDay());
+            minKey = monthKey(CalendarMath.getYear(civil), CalendarMath.getMonth(civil));
+            minKeep = -1 << (CalendarMath.getDay(civil) - 1);
+        }
+        int maxKey = Integer.MAX_VALUE;
+        int maxKeep = -1;
+        if (max != null) {
+            int civil = CalendarMath.toCivil(max.toEpochDay());
+            maxKey = monthKey(CalendarMath.getYear(civil), CalendarMath.getMonth(civil));
+            maxKeep = -1 >>> (32 - CalendarMath.getDay(civil));
+        }
+        if (monthCount == 0 || (monthKeys[0] > minKey && monthKeys[monthCount - 1] < maxKey)) {
+            return Collections.emptyList();
+        }
+
+        ArrayList<CalendarDay> removed = null;
+        int kept = 0;
+        for (int i = 0; i < monthCount; i++) {
+            int key = monthKeys[i];
+            int mask = masks[i];
+            int keep = (key < minKey || key > maxKey) ? 0 : mask;
+            if (key == minKey) {
+                keep &= minKeep;
+            }
+            if (key == maxKey) {
+                keep &= maxKeep;
+            }
+
+            int drop = mask & ~keep;
+            if (drop != 0) {
+                if (removed == null) {
+                    removed = new ArrayList<>();
+                }
+                addDays(removed, key, drop);
+                dayCount -= Integer.bitCount(drop);
+            }
+            if (keep != 0) {
+                monthKeys[kept] = key;
+                masks[kept] = keep;
+                kept++;
+            }
+        }
+        monthCount = kept;
+
+        if (removed == null) {
+            return Collections.emptyList();
+        }
+        if (lastSelected != null && !lastSelected.isInRange(min, max)) {
+            lastSelected = null;
+        }
+        dates = null;
+        return removed;
+    }
+
+    private static void addDays(List<CalendarDay> list, int monthKey, int mask) {
+        int year = getYear(monthKey);
+        int month = getMonth(monthKey);
+        while (mask != 0) {
+            int bit = Integer.numberOfTrailingZeros(mask);
+            list.add(CalendarDay.from(year, month, bit + 1));
+            mask &= mask - 1;
+        }
+    }
+
+    private int binarySearch(int key) {
+        int lo = 0;
+        int hi = monthCount - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int midKey = monthKeys[mid];
+            if (midKey < key) {
+                lo = mid + 1;
+            } else if (midKey > key) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return ~lo;
+    }
+
+    private void insert(int index, int key, int mask) {
+        if (monthCount == monthKeys.length) {
+            int[] newKeys = new int[monthCount * 2];
+            int[] newMasks = new int[monthCount * 2];
+            System.arraycopy(monthKeys, 0, newKeys, 0, monthCount);
+            System.arraycopy(masks, 0, newMasks, 0, monthCount);
+            monthKeys = newKeys;
+            masks = newMasks;
+        }
+        System.arraycopy(monthKeys, index, monthKeys, index + 1, monthCount - index);
+        System.arraycopy(masks, index, masks, index + 1, monthCount - index);
+        monthKeys[index] = key;
+        masks[index] = mask;
+        monthCount++;
+    }
+
+    private void delete(int index) {
+        System.arraycopy(monthKeys, index + 1, monthKeys, index, monthCount - index - 1);
+        System.arraycopy(masks, index + 1, masks, index, monthCount - index - 1);
+        monthCount--;
+    }
+}
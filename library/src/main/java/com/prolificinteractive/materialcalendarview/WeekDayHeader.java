@@ -0,0 +1,72 @@
+package com.prolificinteractive.materialcalendarview;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.widget.LinearLayout;
+
+import com.prolificinteractive.materialcalendarview.format.WeekDayFormatter;
+
+import java.util.Calendar;
+
+/**
+ * A single row of seven {@linkplain WeekDayView}s, shown above the pager
+ * so that pages only need to contain days.
+ */
+@SuppressLint("ViewConstructor")
+class WeekDayHeader extends LinearLayout {
+
+    private final WeekDayView[] weekDayViews = new WeekDayView[CalendarPagerView.DEFAULT_DAYS_IN_WEEK];
+    private int firstDayOfWeek;
+    private Integer weekDayTextAppearance = null;
+    private WeekDayFormatter weekDayFormatter = WeekDayFormatter.DEFAULT;
+
+    public WeekDayHeader(Context context, int firstDayOfWeek) {
+        super(context);
+        this.firstDayOfWeek = firstDayOfWeek;
+        setOrientation(HORIZONTAL);
+
+        for (int i = 0; i < weekDayViews.length; i++) {
+            WeekDayView weekDayView = new WeekDayView(context, getDayOfWeekForColumn(i));
+            weekDayViews[i] = weekDayView;
+            addView(weekDayView, new LayoutParams(0, LayoutParams.MATCH_PARENT, 1));
+        }
+    }
+
+    /**
+     * @param column column of the header, starting at 0
+     * @return the day of the week as defined by {@linkplain Calendar#DAY_OF_WEEK}
+     */
+    private int getDayOfWeekForColumn(int column) {
+        return ((firstDayOfWeek - Calendar.SUNDAY + column) % weekDayViews.length) + Calendar.SUNDAY;
+    }
+
+    public void setFirstDayOfWeek(int dayOfWeek) {
+        if (firstDayOfWeek == dayOfWeek) {
+            return;
+        }
+        firstDayOfWeek = dayOfWeek;
+        for (int i = 0; i < weekDayViews.length; i++) {
+            weekDayViews[i].setDayOfWeek(getDayOfWeekForColumn(i));
+        }
+    }
+
+    public void setWeekDayFormatter(WeekDayFormatter formatter) {
+        if (weekDayFormatter == formatter) {
+            return;
+        }
+        weekDayFormatter = formatter;
+        for (WeekDayView weekDayView : weekDayViews) {
+            weekDayView.setWeekDayFormatter(formatter);
+        }
+    }
+
+    public void setWeekDayTextAppearance(int taId) {
+        if (weekDayTextAppearance != null && weekDayTextAppearance == taId) {
+            return;
+        }
+        weekDayTextAppearance = taId;
+        for (WeekDayView weekDayView : weekDayViews) {
+            weekDayView.setTextAppearance(getContext(), taId);
+        }
+    }
+}
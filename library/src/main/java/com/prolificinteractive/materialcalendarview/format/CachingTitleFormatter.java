@@ -0,0 +1,99 @@
+package com.prolificinteractive.materialcalendarview.format;
+
+import android.support.annotation.NonNull;
+
+import com.prolificinteractive.materialcalendarview.CalendarDay;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Remember the titles of recently shown months, so paging back and forth does not format them again.
+ * <p/>
+ * Titles are forgotten when the default locale changes. Call {@linkplain #clear()} if the titles
+ * of the wrapped formatter change for any other reason.
+ */
+public class CachingTitleFormatter implements TitleFormatter {
+
+    /**
+     * Default number of titles to remember
+     */
+    public static final int DEFAULT_SIZE = 12;
+
+    private final TitleFormatter formatter;
+    private Locale locale;
+    private final LinkedHashMap<Integer, CharSequence> titles;
+
+    /**
+     * Format using "MMMM yyyy" in the default locale, following it when it changes
+     *
+     * @see MonthYearTitleFormatter
+     */
+    public CachingTitleFormatter() {
+        this(new MonthYearTitleFormatter());
+    }
+
+    /**
+     * Remember the titles of another formatter
+     *
+     * @param formatter the formatter to remember titles of
+     */
+    public CachingTitleFormatter(@NonNull TitleFormatter formatter) {
+        this(formatter, DEFAULT_SIZE);
+    }
+
+    /**
+     * Remember the titles of another formatter
+     *
+     * @param formatter the formatter to remember titles of
+     * @param size      number of titles to remember
+     */
+    public CachingTitleFormatter(@NonNull TitleFormatter formatter, int size) {
+        if (formatter == null) {
+            throw new IllegalArgumentException("Formatter cannot be null");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        this.locale = Locale.getDefault();
+        this.formatter = formatter;
+        this.titles = createTitles(size);
+    }
+
+    private static LinkedHashMap<Integer, CharSequence> createTitles(final int size) {
+        return new LinkedHashMap<Integer, CharSequence>(size, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CharSequence> eldest) {
+                return size() > size;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized CharSequence format(CalendarDay day) {
+        Locale current = Locale.getDefault();
+        if (current != locale && !current.equals(locale)) {
+            locale = current;
+            titles.clear();
+        }
+
+        int monthKey = day.getYear() * 12 + day.getMonth();
+        CharSequence title = titles.get(monthKey);
+        if (title == null) {
+            title = formatter.format(day);
+            titles.put(monthKey, title);
+        }
+        return title;
+    }
+
+    /**
+     * Forget every title
+     */
+    public synchronized void clear() {
+        titles.clear();
+    }
+}
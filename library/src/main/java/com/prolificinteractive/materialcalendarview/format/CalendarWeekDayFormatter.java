@@ -7,6 +7,9 @@ import java.util.Locale;
 
 /**
  * Use a {@linkplain java.util.Calendar} to get week day labels.
+ * <p/>
+ * The calendar is modified while formatting, so this must only be used from one thread.
+ * Use {@linkplain LocaleWeekDayFormatter} to format from several threads.
  *
  * @see java.util.Calendar#getDisplayName(int, int, java.util.Locale)
  */
@@ -10,6 +10,9 @@ import java.util.Locale;
 
 /**
  * Format using a {@linkplain DateFormat} instance.
+ * <p/>
+ * Date formats are not thread safe, so this must only be used from one thread.
+ * Use {@linkplain DayOfMonthFormatter} to format from several threads.
  */
 public class DateFormatDayFormatter implements DayFormatter {
 
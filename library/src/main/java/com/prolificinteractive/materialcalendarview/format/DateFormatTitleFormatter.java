@@ -8,6 +8,9 @@ import java.util.Locale;
 
 /**
  * Format using a {@linkplain java.text.DateFormat} instance.
+ * <p/>
+ * Date formats are not thread safe, so this must only be used from one thread.
+ * Use {@linkplain MonthYearTitleFormatter} to format from several threads.
  */
 public class DateFormatTitleFormatter implements TitleFormatter {
 
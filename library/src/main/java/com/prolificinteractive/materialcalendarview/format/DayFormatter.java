@@ -7,7 +7,8 @@ import com.prolificinteractive.materialcalendarview.CalendarDay;
 import java.text.SimpleDateFormat;
 
 /**
- * Supply labels for a given day. Default implementation is to format using a {@linkplain SimpleDateFormat}
+ * Supply labels for a given day. Default implementation is to format using labels computed once
+ * with a {@linkplain SimpleDateFormat}, see {@linkplain DayOfMonthFormatter}
  */
 public interface DayFormatter {
 
@@ -23,5 +24,5 @@ public interface DayFormatter {
     /**
      * Default implementation used by {@linkplain com.prolificinteractive.materialcalendarview.MaterialCalendarView}
      */
-    public static final DayFormatter DEFAULT = new DateFormatDayFormatter();
+    public static final DayFormatter DEFAULT = new DayOfMonthFormatter();
 }
@@ -0,0 +1,83 @@
+package com.prolificinteractive.materialcalendarview.format;
+
+import android.support.annotation.NonNull;
+
+import com.prolificinteractive.materialcalendarview.CalendarDay;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Locale;
+
+/**
+ * Format the day of the month from labels computed once per locale.
+ * <p/>
+ * Labels are the same as a {@linkplain DateFormatDayFormatter} with its default format,
+ * including the digits of the locale, but formatting a day does not allocate anything.
+ * The labels of a locale are never modified once computed, so this can be used from any thread
+ * without locking.
+ */
+public class DayOfMonthFormatter implements DayFormatter {
+
+    private static final int MAX_DAYS_IN_MONTH = 31;
+
+    /**
+     * The labels of one locale, never modified once built
+     */
+    private static final class Labels {
+
+        final Locale locale;
+        final String[] labels = new String[MAX_DAYS_IN_MONTH];
+
+        Labels(Locale locale) {
+            this.locale = locale;
+            DateFormat format = new SimpleDateFormat("d", locale);
+            Calendar calendar = Calendar.getInstance();
+            calendar.clear();
+            //A month with 31 days
+            calendar.set(2000, Calendar.JANUARY, 1);
+            for (int i = 0; i < MAX_DAYS_IN_MONTH; i++) {
+                calendar.set(Calendar.DAY_OF_MONTH, i + 1);
+                labels[i] = format.format(calendar.getTime());
+            }
+        }
+    }
+
+    private final boolean followDefaultLocale;
+    private volatile Labels labels;
+
+    /**
+     * Format using the default locale, following it when it changes
+     */
+    public DayOfMonthFormatter() {
+        this.followDefaultLocale = true;
+        this.labels = new Labels(Locale.getDefault());
+    }
+
+    /**
+     * Format using a specific locale
+     *
+     * @param locale the locale to use
+     */
+    public DayOfMonthFormatter(@NonNull Locale locale) {
+        this.followDefaultLocale = false;
+        this.labels = new Labels(locale);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public String format(@NonNull CalendarDay day) {
+        Labels labels = this.labels;
+        if (followDefaultLocale) {
+            Locale locale = Locale.getDefault();
+            if (locale != labels.locale && !locale.equals(labels.locale)) {
+                labels = new Labels(locale);
+                this.labels = labels;
+            }
+        }
+        return labels.labels[day.getDay() - 1];
+    }
+}
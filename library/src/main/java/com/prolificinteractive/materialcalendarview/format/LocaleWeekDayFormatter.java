@@ -0,0 +1,74 @@
+package com.prolificinteractive.materialcalendarview.format;
+
+import android.support.annotation.NonNull;
+
+import java.util.Calendar;
+import java.util.Locale;
+
+/**
+ * Short week day labels of a locale, computed once per locale.
+ * <p/>
+ * Labels are the same as a {@linkplain CalendarWeekDayFormatter}. The labels of a locale
+ * are never modified once computed, so this can be used from any thread without locking.
+ *
+ * @see java.util.Calendar#getDisplayName(int, int, java.util.Locale)
+ */
+public class LocaleWeekDayFormatter implements WeekDayFormatter {
+
+    private static final int DAYS_IN_WEEK = 7;
+
+    /**
+     * The labels of one locale, never modified once built
+     */
+    private static final class Labels {
+
+        final Locale locale;
+        final String[] labels = new String[DAYS_IN_WEEK];
+
+        Labels(Locale locale) {
+            this.locale = locale;
+            Calendar calendar = Calendar.getInstance(locale);
+            for (int i = 0; i < DAYS_IN_WEEK; i++) {
+                calendar.set(Calendar.DAY_OF_WEEK, Calendar.SUNDAY + i);
+                labels[i] = calendar.getDisplayName(Calendar.DAY_OF_WEEK, Calendar.SHORT, locale);
+            }
+        }
+    }
+
+    private final boolean followDefaultLocale;
+    private volatile Labels labels;
+
+    /**
+     * Format using the default locale, following it when it changes
+     */
+    public LocaleWeekDayFormatter() {
+        this.followDefaultLocale = true;
+        this.labels = new Labels(Locale.getDefault());
+    }
+
+    /**
+     * Format using a specific locale
+     *
+     * @param locale the locale to use
+     */
+    public LocaleWeekDayFormatter(@NonNull Locale locale) {
+        this.followDefaultLocale = false;
+        this.labels = new Labels(locale);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharSequence format(int dayOfWeek) {
+        Labels labels = this.labels;
+        if (followDefaultLocale) {
+            Locale locale = Locale.getDefault();
+            if (locale != labels.locale && !locale.equals(labels.locale)) {
+                labels = new Labels(locale);
+                this.labels = labels;
+            }
+        }
+        return labels.labels[dayOfWeek - Calendar.SUNDAY];
+    }
+}
@@ -0,0 +1,143 @@
+package com.prolificinteractive.materialcalendarview.format;
+
+import android.support.annotation.NonNull;
+
+import com.prolificinteractive.materialcalendarview.CalendarDay;
+
+import java.text.DateFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Locale;
+
+/**
+ * Format titles as "MMMM yyyy", from month titles and digits computed once per locale.
+ * <p/>
+ * Titles are the same as a {@linkplain DateFormatTitleFormatter} with its default format.
+ * The titles of a locale are never modified once computed, so this can be used from any thread
+ * without locking.
+ */
+public class MonthYearTitleFormatter implements TitleFormatter {
+
+    private static final int MONTHS = 12;
+    private static final int MIN_YEAR_DIGITS = 4;
+    /**
+     * Year formatted to find where the year goes in a title, any year with four digits works
+     */
+    private static final int SAMPLE_YEAR = 2000;
+
+    /**
+     * The titles of each month around the year, and the digits of one locale, never modified once built
+     */
+    private static final class Names {
+
+        final Locale locale;
+        final char zeroDigit;
+        final String[] beforeYear = new String[MONTHS];
+        final String[] afterYear = new String[MONTHS];
+        /**
+         * False if the year could not be found in the titles, which are then formatted each time
+         */
+        final boolean spliced;
+        /**
+         * Formats titles that could not be spliced, one format per thread since they are not thread safe
+         */
+        final ThreadLocal<DateFormat> fallbackFormat;
+
+        Names(Locale locale) {
+            this.locale = locale;
+            zeroDigit = new DecimalFormatSymbols(locale).getZeroDigit();
+            //Month names can depend on the rest of the pattern, so format the whole title
+            DateFormat format = new SimpleDateFormat("MMMM yyyy", locale);
+            String year = appendYear(new StringBuilder(), SAMPLE_YEAR, zeroDigit).toString();
+            Calendar calendar = Calendar.getInstance();
+            calendar.clear();
+            calendar.set(SAMPLE_YEAR, Calendar.JANUARY, 1);
+            boolean found = true;
+            for (int i = 0; i < MONTHS && found; i++) {
+                calendar.set(Calendar.MONTH, Calendar.JANUARY + i);
+                String title = format.format(calendar.getTime());
+                int yearIndex = title.lastIndexOf(year);
+                found = yearIndex >= 0;
+                if (found) {
+                    beforeYear[i] = title.substring(0, yearIndex);
+                    afterYear[i] = title.substring(yearIndex + year.length());
+                }
+            }
+            spliced = found;
+            fallbackFormat = found ? null : createFallbackFormat(locale);
+        }
+
+        private static ThreadLocal<DateFormat> createFallbackFormat(final Locale locale) {
+            return new ThreadLocal<DateFormat>() {
+                @Override
+                protected DateFormat initialValue() {
+                    return new SimpleDateFormat("MMMM yyyy", locale);
+                }
+            };
+        }
+    }
+
+    private final boolean followDefaultLocale;
+    private volatile Names names;
+
+    /**
+     * Format using the default locale, following it when it changes
+     */
+    public MonthYearTitleFormatter() {
+        this.followDefaultLocale = true;
+        this.names = new Names(Locale.getDefault());
+    }
+
+    /**
+     * Format using a specific locale
+     *
+     * @param locale the locale to use
+     */
+    public MonthYearTitleFormatter(@NonNull Locale locale) {
+        this.followDefaultLocale = false;
+        this.names = new Names(locale);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharSequence format(CalendarDay day) {
+        Names names = this.names;
+        if (followDefaultLocale) {
+            Locale locale = Locale.getDefault();
+            if (locale != names.locale && !locale.equals(names.locale)) {
+                names = new Names(locale);
+                this.names = names;
+            }
+        }
+
+        if (!names.spliced) {
+            return names.fallbackFormat.get().format(day.getDate());
+        }
+
+        int month = day.getMonth();
+        StringBuilder title = new StringBuilder(
+                names.beforeYear[month].length() + MIN_YEAR_DIGITS + names.afterYear[month].length()
+        );
+        title.append(names.beforeYear[month]);
+        appendYear(title, day.getYear(), names.zeroDigit);
+        title.append(names.afterYear[month]);
+        return title.toString();
+    }
+
+    /**
+     * Append a year as "yyyy" with the digits of a locale
+     */
+    private static StringBuilder appendYear(StringBuilder builder, int year, char zeroDigit) {
+        String digits = Integer.toString(year);
+        for (int i = digits.length(); i < MIN_YEAR_DIGITS; i++) {
+            builder.append(zeroDigit);
+        }
+        for (int i = 0; i < digits.length(); i++) {
+            builder.append((char) (zeroDigit + (digits.charAt(i) - '0')));
+        }
+        return builder;
+    }
+}
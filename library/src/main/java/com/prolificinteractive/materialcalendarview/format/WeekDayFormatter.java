@@ -1,7 +1,5 @@
 package com.prolificinteractive.materialcalendarview.format;
 
-import com.prolificinteractive.materialcalendarview.CalendarUtils;
-
 /**
  * Supply labels for a given day of the week
  */
@@ -17,5 +15,5 @@ public interface WeekDayFormatter {
     /**
      * Default implementation used by {@linkplain com.prolificinteractive.materialcalendarview.MaterialCalendarView}
      */
-    public static final WeekDayFormatter DEFAULT = new CalendarWeekDayFormatter(CalendarUtils.getInstance());
+    public static final WeekDayFormatter DEFAULT = new LocaleWeekDayFormatter();
 }
@@ -0,0 +1,105 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Calendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Validate the interning of {@linkplain CalendarDay} instances
+ */
+public class CalendarDayPoolTest {
+
+    /**
+     * Number of cells on three live month pages
+     */
+    private static final int CELLS = 3 * 42;
+    private static final int PASSES = 1000;
+
+    @Before
+    public void setUp() {
+        CalendarDayPool.clear();
+    }
+
+    @Test
+    public void testSameDayIsShared() {
+        CalendarDay day = CalendarDay.from(2015, Calendar.JUNE, 15);
+
+        assertSame(day, CalendarDay.from(2015, Calendar.JUNE, 15));
+        assertSame(day, CalendarDay.fromEpochDay(day.toEpochDay()));
+        assertSame(day, CalendarDay.from(2015, Calendar.JUNE, 14).plusDays(1));
+    }
+
+    @Test
+    public void testCollisionsKeepCorrectDates() {
+        CalendarDay day = CalendarDay.from(2015, Calendar.JUNE, 15);
+        CalendarDay collision = CalendarDay.fromEpochDay(day.toEpochDay() + CalendarDayPool.SIZE);
+
+        assertEquals(day.toEpochDay() + CalendarDayPool.SIZE, collision.toEpochDay());
+        assertEquals(CalendarDay.from(2015, Calendar.JUNE, 15), day);
+        assertNotSame(day, CalendarDay.from(2015, Calendar.JUNE, 15));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testUnnormalizedDatesAreNormalized() {
+        CalendarDay march = CalendarDay.from(2015, Calendar.MARCH, 2);
+        CalendarDay february = CalendarDay.from(2015, Calendar.FEBRUARY, 30);
+
+        assertSame(march, february);
+        assertEquals(Calendar.MARCH, february.getMonth());
+        assertEquals(2, february.getDay());
+
+        CalendarDay constructed = new CalendarDay(2015, Calendar.FEBRUARY, 30);
+        assertEquals(0, march.compareTo(constructed));
+        assertEquals(march, constructed);
+        assertEquals(march.hashCode(), constructed.hashCode());
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testPagingAllocatesLessThanConstructing() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        long threadId = Thread.currentThread().getId();
+
+        int start = CalendarDay.from(2015, Calendar.JUNE, 1).toEpochDay();
+        CalendarDay sink = null;
+
+        //Warm up both paths so class loading is not counted
+        for (int i = 0; i < CELLS; i++) {
+            sink = new CalendarDay(2015, Calendar.JUNE, i % 28 + 1);
+            sink = CalendarDay.fromEpochDay(start + i);
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int pass = 0; pass < PASSES; pass++) {
+            for (int i = 0; i < CELLS; i++) {
+                sink = new CalendarDay(2015, Calendar.JUNE, i % 28 + 1);
+            }
+        }
+        long constructed = threads.getThreadAllocatedBytes(threadId) - before;
+
+        before = threads.getThreadAllocatedBytes(threadId);
+        for (int pass = 0; pass < PASSES; pass++) {
+            for (int i = 0; i < CELLS; i++) {
+                sink = CalendarDay.fromEpochDay(start + i);
+            }
+        }
+        long pooled = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(sink != null);
+        assertTrue("pooled " + pooled + " bytes, constructed " + constructed + " bytes",
+                pooled * 100 < constructed);
+    }
+}
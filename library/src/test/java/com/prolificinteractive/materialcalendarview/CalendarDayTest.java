@@ -0,0 +1,71 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validate the packed epoch day representation of {@linkplain CalendarDay}
+ */
+public class CalendarDayTest {
+
+    @Test
+    public void testEpochDayKnownValues() {
+        assertEquals(0, CalendarDay.from(1970, Calendar.JANUARY, 1).toEpochDay());
+        assertEquals(-1, CalendarDay.from(1969, Calendar.DECEMBER, 31).toEpochDay());
+        assertEquals(11016, CalendarDay.from(2000, Calendar.FEBRUARY, 29).toEpochDay());
+        assertEquals(-719528, CalendarDay.from(0, Calendar.JANUARY, 1).toEpochDay());
+    }
+
+    @Test
+    public void testEpochDayRoundTrip() {
+        for (int epochDay = -800000; epochDay <= 800000; epochDay += 7) {
+            CalendarDay day = CalendarDay.fromEpochDay(epochDay);
+            assertEquals(epochDay, day.toEpochDay());
+            assertEquals(day, CalendarDay.from(day.getYear(), day.getMonth(), day.getDay()));
+        }
+    }
+
+    @Test
+    public void testPlusDaysAndDaysBetween() {
+        CalendarDay start = CalendarDay.from(2015, Calendar.DECEMBER, 30);
+
+        assertEquals(CalendarDay.from(2016, Calendar.JANUARY, 2), start.plusDays(3));
+        assertEquals(CalendarDay.from(2015, Calendar.NOVEMBER, 30), start.plusDays(-30));
+        assertSame(start, start.plusDays(0));
+
+        assertEquals(3, CalendarDay.daysBetween(start, start.plusDays(3)));
+        assertEquals(-366, CalendarDay.daysBetween(start, CalendarDay.from(2014, Calendar.DECEMBER, 29)));
+    }
+
+    @Test
+    public void testOrdering() {
+        CalendarDay a = CalendarDay.from(2015, Calendar.JANUARY, 31);
+        CalendarDay b = CalendarDay.from(2015, Calendar.FEBRUARY, 1);
+
+        assertTrue(a.isBefore(b));
+        assertFalse(b.isBefore(a));
+        assertTrue(b.isAfter(a));
+        assertFalse(a.isAfter(a));
+        assertTrue(a.compareTo(b) < 0);
+        assertTrue(b.compareTo(a) > 0);
+        assertEquals(0, a.compareTo(CalendarDay.from(2015, Calendar.JANUARY, 31)));
+
+        List<CalendarDay> days = new ArrayList<>();
+        days.add(b);
+        days.add(CalendarDay.from(2014, Calendar.DECEMBER, 25));
+        days.add(a);
+        Collections.sort(days);
+        assertEquals(CalendarDay.from(2014, Calendar.DECEMBER, 25), days.get(0));
+        assertEquals(a, days.get(1));
+        assertEquals(b, days.get(2));
+    }
+}
@@ -0,0 +1,90 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Check the arithmetic date engine gives the same answers as {@linkplain GregorianCalendar}
+ */
+public class CalendarMathTest {
+
+    private static final int MIN_YEAR = 2000 - 400;
+    private static final int MAX_YEAR = 2000 + 400;
+
+    private static GregorianCalendar newCalendar(int year, int month, int day) {
+        GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        calendar.clear();
+        calendar.set(year, month, day);
+        return calendar;
+    }
+
+    @Test
+    public void testEveryDayMatchesGregorianCalendar() {
+        GregorianCalendar calendar = newCalendar(MIN_YEAR, Calendar.JANUARY, 1);
+        int epochDay = CalendarMath.toEpochDay(MIN_YEAR, Calendar.JANUARY, 1);
+        assertEquals(calendar.getTimeInMillis() / (24L * 60 * 60 * 1000), epochDay);
+
+        while (calendar.get(Calendar.YEAR) <= MAX_YEAR) {
+            int year = calendar.get(Calendar.YEAR);
+            int month = calendar.get(Calendar.MONTH);
+            int day = calendar.get(Calendar.DATE);
+
+            int civil = CalendarMath.toCivil(epochDay);
+            assertEquals(year, CalendarMath.getYear(civil));
+            assertEquals(month, CalendarMath.getMonth(civil));
+            assertEquals(day, CalendarMath.getDay(civil));
+
+            assertEquals(epochDay, CalendarMath.toEpochDay(year, month, day));
+            assertEquals(calendar.get(Calendar.DAY_OF_WEEK), CalendarMath.getDayOfWeek(epochDay));
+
+            calendar.add(Calendar.DATE, 1);
+            epochDay++;
+        }
+    }
+
+    @Test
+    public void testMonthLengthsMatchGregorianCalendar() {
+        GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
+            assertEquals(calendar.isLeapYear(year), CalendarMath.isLeapYear(year));
+            for (int month = Calendar.JANUARY; month <= Calendar.DECEMBER; month++) {
+                GregorianCalendar expected = newCalendar(year, month, 1);
+                assertEquals(
+                        expected.getActualMaximum(Calendar.DAY_OF_MONTH),
+                        CalendarMath.getDaysInMonth(year, month)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testOutOfRangeMonthsRollOver() {
+        assertEquals(
+                CalendarMath.toEpochDay(2016, Calendar.JANUARY, 1),
+                CalendarMath.toEpochDay(2015, 12, 1)
+        );
+        assertEquals(
+                CalendarMath.toEpochDay(2014, Calendar.DECEMBER, 1),
+                CalendarMath.toEpochDay(2015, -1, 1)
+        );
+        assertEquals(
+                CalendarMath.toEpochDay(2015, Calendar.MARCH, 1),
+                CalendarMath.toEpochDay(2015, Calendar.FEBRUARY, 29)
+        );
+    }
+
+    @Test
+    public void testNegativeEpochDays() {
+        int civil = CalendarMath.toCivil(-1);
+        assertEquals(1969, CalendarMath.getYear(civil));
+        assertEquals(Calendar.DECEMBER, CalendarMath.getMonth(civil));
+        assertEquals(31, CalendarMath.getDay(civil));
+        assertEquals(Calendar.WEDNESDAY, CalendarMath.getDayOfWeek(-1));
+        assertEquals(Calendar.THURSDAY, CalendarMath.getDayOfWeek(-7));
+    }
+}
@@ -0,0 +1,75 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Calendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validate the indexed lookup of {@linkplain DateSetDecorator} against its predicate
+ */
+public class DateSetDecoratorTest {
+
+    private static final int START = CalendarDay.from(2015, Calendar.JANUARY, 1).toEpochDay();
+    private static final int GRID = 42;
+
+    private static CalendarDay day(int offset) {
+        return CalendarDay.fromEpochDay(START + offset);
+    }
+
+    private static DateSetDecorator decorator() {
+        return new DateSetDecorator() {
+            @Override
+            public void decorate(DayViewFacade view) {
+            }
+        };
+    }
+
+    @Test
+    public void testMaskMatchesPredicate() {
+        DateSetDecorator decorator = decorator();
+        decorator.addDates(Arrays.asList(day(-1), day(0), day(17), null, day(41), day(42)));
+        decorator.addRange(day(30), day(20));
+        decorator.addRange(day(100), day(400));
+
+        for (int first = -50; first < 450; first += 13) {
+            long mask = decorator.getDayMask(START + first, GRID);
+            for (int i = 0; i < GRID; i++) {
+                assertEquals(decorator.shouldDecorate(day(first + i)), (mask & (1L << i)) != 0);
+            }
+            assertEquals(0, mask >>> GRID);
+        }
+    }
+
+    @Test
+    public void testFullWindow() {
+        DateSetDecorator decorator = decorator();
+        decorator.addRange(day(-10), day(100));
+
+        assertEquals((1L << GRID) - 1, decorator.getDayMask(START, GRID));
+        assertEquals(-1L, decorator.getDayMask(START, 64));
+    }
+
+    @Test
+    public void testChangingDates() {
+        DateSetDecorator decorator = decorator();
+        decorator.addRange(day(0), day(9));
+        assertEquals(10, decorator.size());
+
+        decorator.removeDate(day(5));
+        assertFalse(decorator.shouldDecorate(day(5)));
+        assertEquals(0x3DFL, decorator.getDayMask(START, GRID));
+
+        decorator.setDates(Arrays.asList(day(3)));
+        assertEquals(1, decorator.size());
+        assertTrue(decorator.shouldDecorate(day(3)));
+        assertFalse(decorator.shouldDecorate(null));
+
+        decorator.clear();
+        assertEquals(0, decorator.getDayMask(START, GRID));
+    }
+}
@@ -0,0 +1,97 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validate accumulating decorators into a facade
+ */
+public class DayViewFacadeTest {
+
+    private static final int CELLS = 42 * 1000;
+
+    @Test
+    public void testSpansAccumulateInOrder() {
+        Object bold = new Object();
+        Object color = new Object();
+        Object size = new Object();
+
+        DayViewFacade first = new DayViewFacade();
+        first.addSpan(bold);
+        DayViewFacade second = new DayViewFacade();
+        second.addSpan(color);
+        second.addSpan(size);
+
+        DayViewFacade accumulator = new DayViewFacade();
+        first.applyTo(accumulator);
+        second.applyTo(accumulator);
+        assertTrue(accumulator.isDecorated());
+        assertEquals(3, accumulator.getSpanCount());
+        assertSame(bold, accumulator.getSpan(0));
+        assertSame(color, accumulator.getSpan(1));
+        assertSame(size, accumulator.getSpan(2));
+
+        accumulator.reset();
+        assertFalse(accumulator.isDecorated());
+        assertEquals(0, accumulator.getSpanCount());
+    }
+
+    @Test
+    public void testSpansGrow() {
+        DayViewFacade facade = new DayViewFacade();
+        for (int i = 0; i < 20; i++) {
+            facade.addSpan(i);
+        }
+        assertEquals(20, facade.getSpanCount());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, facade.getSpan(i));
+        }
+    }
+
+    @Test
+    public void testAccumulatingDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        DayViewFacade weekend = new DayViewFacade();
+        weekend.addSpan(new Object());
+        weekend.setDaysDisabled(true);
+        DayViewFacade event = new DayViewFacade();
+        event.addSpan(new Object());
+        event.addSpan(new Object());
+        DayViewFacade accumulator = new DayViewFacade();
+
+        //Reach steady state, and let the JIT settle
+        accumulate(accumulator, weekend, event, CELLS);
+
+        long thread = Thread.currentThread().getId();
+        long overhead = threads.getThreadAllocatedBytes(thread);
+        overhead = threads.getThreadAllocatedBytes(thread) - overhead;
+
+        long before = threads.getThreadAllocatedBytes(thread);
+        accumulate(accumulator, weekend, event, CELLS);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before - overhead;
+
+        //Less than one byte per cell, so no cell allocated anything
+        assertTrue("Allocated " + allocated + " bytes for " + CELLS + " cells", allocated < CELLS);
+        assertEquals(3, accumulator.getSpanCount());
+    }
+
+    private static void accumulate(DayViewFacade accumulator, DayViewFacade first, DayViewFacade second, int cells) {
+        for (int i = 0; i < cells; i++) {
+            accumulator.reset();
+            first.applyTo(accumulator);
+            second.applyTo(accumulator);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Validate that every kind of decorator resolves to the same grid mask
+ */
+public class DecoratorMasksTest {
+
+    private static final int START = CalendarDay.from(2015, Calendar.MARCH, 1).toEpochDay();
+    private static final int GRID = 42;
+
+    /**
+     * Decorates every third day
+     */
+    private static boolean isDecorated(int epochDay) {
+        return ((epochDay % 3) + 3) % 3 == 0;
+    }
+
+    private static class PerDayDecorator implements DayViewDecorator {
+
+        int calls = 0;
+
+        @Override
+        public boolean shouldDecorate(CalendarDay day) {
+            calls++;
+            return isDecorated(day.toEpochDay());
+        }
+
+        @Override
+        public void decorate(DayViewFacade view) {
+        }
+    }
+
+    private static class BulkDecorator extends PerDayDecorator implements BulkDayViewDecorator {
+
+        int bulkCalls = 0;
+
+        @Override
+        public void shouldDecorate(CalendarDay firstDay, boolean[] decorated) {
+            bulkCalls++;
+            //Only sets entries, relying on every entry starting as false
+            for (int i = 0; i < decorated.length; i++) {
+                if (isDecorated(firstDay.toEpochDay() + i)) {
+                    decorated[i] = true;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAllPathsAgree() {
+        PerDayDecorator perDay = new PerDayDecorator();
+        BulkDecorator bulk = new BulkDecorator();
+        DateSetDecorator dateSet = new DateSetDecorator() {
+            @Override
+            public void decorate(DayViewFacade view) {
+            }
+        };
+        for (int i = -100; i < 200; i++) {
+            if (isDecorated(START + i)) {
+                dateSet.addDate(CalendarDay.fromEpochDay(START + i));
+            }
+        }
+
+        boolean[] scratch = new boolean[GRID];
+        for (int first = START - 50; first < START + 100; first += 11) {
+            long expected = DecoratorMasks.getMask(perDay, first, scratch);
+            assertEquals(expected, DecoratorMasks.getMask(bulk, first, scratch));
+            assertEquals(expected, DecoratorMasks.getMask(dateSet, first, scratch));
+            for (int i = 0; i < GRID; i++) {
+                assertEquals(isDecorated(first + i), DecoratorMasks.isSet(expected, i));
+            }
+        }
+    }
+
+    @Test
+    public void testBulkDecoratorIsAskedOnce() {
+        BulkDecorator bulk = new BulkDecorator();
+        boolean[] scratch = new boolean[GRID];
+
+        long first = DecoratorMasks.getMask(bulk, START, scratch);
+        //Results of the last call must not leak into the next one
+        long second = DecoratorMasks.getMask(bulk, START + 1, scratch);
+
+        assertEquals(first >>> 1, second & (first >>> 1));
+        assertEquals(0, first & second);
+
+        assertEquals(2, bulk.bulkCalls);
+        assertEquals(0, bulk.calls);
+    }
+
+    @Test
+    public void testRangeMask() {
+        assertEquals(0x1L, DecoratorMasks.getRangeMask(START, GRID, START - 10, START));
+        assertEquals(0x3CL, DecoratorMasks.getRangeMask(START, GRID, START + 2, START + 5));
+        assertEquals((1L << GRID) - (1L << 40), DecoratorMasks.getRangeMask(START, GRID, START + 40, START + 100));
+        assertEquals((1L << GRID) - 1, DecoratorMasks.getRangeMask(START, GRID, START - 1, START + GRID));
+        assertEquals(0, DecoratorMasks.getRangeMask(START, GRID, START + GRID, START + 100));
+        assertEquals(0, DecoratorMasks.getRangeMask(START, GRID, START + 5, START + 2));
+    }
+
+    @Test
+    public void testOnlyRangeIsAsked() {
+        PerDayDecorator perDay = new PerDayDecorator();
+        boolean[] scratch = new boolean[GRID];
+        long range = DecoratorMasks.getRangeMask(START, GRID, START + 3, START + 9);
+
+        long mask = DecoratorMasks.getMask(perDay, START, scratch, range);
+
+        assertEquals(7, perDay.calls);
+        assertEquals(DecoratorMasks.getMask(perDay, START, scratch) & range, mask);
+        assertEquals(mask, DecoratorMasks.getMask(new BulkDecorator(), START, scratch, range));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGridTooLarge() {
+        DecoratorMasks.getMask(new PerDayDecorator(), START, new boolean[DecoratorMasks.MAX_DAYS + 1]);
+    }
+}
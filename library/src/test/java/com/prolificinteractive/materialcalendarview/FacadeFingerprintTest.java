@@ -0,0 +1,59 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Validate that only what differs from the last facade is reported as changed
+ */
+public class FacadeFingerprintTest {
+
+    private final Object bold = new Object();
+    private final Object color = new Object();
+
+    @Test
+    public void testEmptyFacadeChangesNothing() {
+        FacadeFingerprint fingerprint = new FacadeFingerprint();
+        assertEquals(0, fingerprint.update(new DayViewFacade()));
+    }
+
+    @Test
+    public void testSameFacadeChangesNothing() {
+        FacadeFingerprint fingerprint = new FacadeFingerprint();
+        DayViewFacade facade = new DayViewFacade();
+        facade.addSpan(bold);
+        facade.setDaysDisabled(true);
+
+        assertEquals(
+                FacadeFingerprint.CHANGED_SPANS | FacadeFingerprint.CHANGED_DISABLED,
+                fingerprint.update(facade)
+        );
+        assertEquals(0, fingerprint.update(facade));
+
+        //A different facade holding the same decorations
+        DayViewFacade other = new DayViewFacade();
+        other.addSpan(bold);
+        other.setDaysDisabled(true);
+        assertEquals(0, fingerprint.update(other));
+    }
+
+    @Test
+    public void testSpansChanged() {
+        FacadeFingerprint fingerprint = new FacadeFingerprint();
+        DayViewFacade facade = new DayViewFacade();
+        facade.addSpan(bold);
+        facade.addSpan(color);
+        fingerprint.update(facade);
+        assertEquals(2, fingerprint.getSpanCount());
+
+        DayViewFacade reordered = new DayViewFacade();
+        reordered.addSpan(color);
+        reordered.addSpan(bold);
+        assertEquals(FacadeFingerprint.CHANGED_SPANS, fingerprint.update(reordered));
+        assertEquals(color, fingerprint.getSpan(0));
+
+        assertEquals(FacadeFingerprint.CHANGED_SPANS, fingerprint.update(new DayViewFacade()));
+        assertEquals(0, fingerprint.getSpanCount());
+    }
+}
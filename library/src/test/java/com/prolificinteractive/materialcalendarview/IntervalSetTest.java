@@ -0,0 +1,67 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validate merging, splitting and masking of day intervals
+ */
+public class IntervalSetTest {
+
+    @Test
+    public void testAdjacentIntervalsMerge() {
+        IntervalSet set = new IntervalSet();
+        assertTrue(set.add(0, 4));
+        assertTrue(set.add(10, 14));
+        assertTrue(set.add(5, 9));
+        assertFalse(set.add(2, 12));
+
+        assertEquals(1, set.getIntervalCount());
+        assertEquals(0, set.getStart(0));
+        assertEquals(14, set.getEnd(0));
+        assertEquals(15, set.size());
+    }
+
+    @Test
+    public void testRemoveSplitsIntervals() {
+        IntervalSet set = new IntervalSet();
+        set.add(0, 9);
+        assertTrue(set.remove(5));
+        assertFalse(set.remove(5));
+
+        assertEquals(2, set.getIntervalCount());
+        assertEquals(9, set.size());
+        assertTrue(set.contains(4));
+        assertFalse(set.contains(5));
+        assertTrue(set.contains(6));
+    }
+
+    @Test
+    public void testDayMask() {
+        IntervalSet set = new IntervalSet();
+        set.add(-5, 1);
+        set.add(63, 100);
+
+        long mask = set.getDayMask(0, 64);
+        assertEquals(0b11L | (1L << 63), mask);
+    }
+
+    @Test
+    public void testRetainRange() {
+        IntervalSet set = new IntervalSet();
+        set.add(0, 9);
+        set.add(20, 29);
+
+        List<CalendarDay> removed = set.retainRange(5, 24);
+        assertEquals(10, removed.size());
+        assertEquals(0, removed.get(0).toEpochDay());
+        assertEquals(29, removed.get(9).toEpochDay());
+        assertEquals(10, set.size());
+        assertTrue(set.retainRange(5, 24).isEmpty());
+    }
+}
@@ -0,0 +1,65 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Validate month grids against walking a {@linkplain Calendar}
+ */
+public class MonthGridTest {
+
+    @Test
+    public void testGridsMatchCalendar() {
+        for (int year = 2014; year <= 2016; year++) {
+            for (int month = Calendar.JANUARY; month <= Calendar.DECEMBER; month++) {
+                for (int firstDayOfWeek = Calendar.SUNDAY; firstDayOfWeek <= Calendar.SATURDAY; firstDayOfWeek++) {
+                    assertGrid(year, month, firstDayOfWeek, false);
+                    assertGrid(year, month, firstDayOfWeek, true);
+                }
+            }
+        }
+    }
+
+    private static void assertGrid(int year, int month, int firstDayOfWeek, boolean showOtherMonths) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(year, month, 1);
+        int delta = firstDayOfWeek - calendar.get(Calendar.DAY_OF_WEEK);
+        if (showOtherMonths ? delta >= 0 : delta > 0) {
+            delta -= 7;
+        }
+        calendar.add(Calendar.DATE, delta);
+
+        MonthGrid grid = MonthGrid.get(CalendarDay.from(year, month, 1), firstDayOfWeek, showOtherMonths);
+        int inMonth = 0;
+        for (int i = 0; i < 42; i++) {
+            CalendarDay day = grid.getDay(i);
+            assertEquals(CalendarDay.from(calendar), day);
+            assertEquals(day.toEpochDay(), grid.getEpochDay(i));
+            assertEquals(calendar.get(Calendar.MONTH) == month, grid.isInMonth(i));
+            if (grid.isInMonth(i)) {
+                inMonth++;
+            }
+            calendar.add(Calendar.DATE, 1);
+        }
+        assertEquals(-delta, grid.getLeadingDays());
+        assertEquals(inMonth, grid.getDaysInMonth());
+        assertEquals(42 - inMonth + delta, grid.getTrailingDays());
+    }
+
+    @Test
+    public void testGridsAreShared() {
+        CalendarDay month = CalendarDay.from(2015, Calendar.MARCH, 1);
+        MonthGrid grid = MonthGrid.get(month, Calendar.MONDAY, false);
+        assertSame(grid, MonthGrid.get(CalendarDay.from(2015, Calendar.MARCH, 12), Calendar.MONDAY, false));
+
+        //March 2015 starts on a Sunday
+        assertEquals(6, grid.getLeadingDays());
+        assertEquals(0, MonthGrid.get(month, Calendar.SUNDAY, false).getLeadingDays());
+        assertEquals(7, MonthGrid.get(month, Calendar.SUNDAY, true).getLeadingDays());
+    }
+}
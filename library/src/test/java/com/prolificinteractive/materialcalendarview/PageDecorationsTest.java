@@ -0,0 +1,295 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validate which days are updated when decorators are resolved, synchronously and in the background
+ */
+public class PageDecorationsTest {
+
+    private static final int GRID = 42;
+    private static final int START = CalendarDay.from(2015, Calendar.MARCH, 1).toEpochDay();
+
+    /**
+     * Runs tasks only when asked to
+     */
+    private static class QueueExecutor implements Executor {
+
+        final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+    }
+
+    private static class DaysDecorator implements DayViewDecorator {
+
+        final Set<Integer> epochDays = new HashSet<>();
+        int calls = 0;
+
+        @Override
+        public boolean shouldDecorate(CalendarDay day) {
+            calls++;
+            return epochDays.contains(day.toEpochDay());
+        }
+
+        @Override
+        public void decorate(DayViewFacade view) {
+            view.setDaysDisabled(true);
+        }
+    }
+
+    private static class BulkDaysDecorator extends DaysDecorator implements BulkDayViewDecorator {
+
+        @Override
+        public void shouldDecorate(CalendarDay firstDay, boolean[] decorated) {
+            calls++;
+            for (int i = 0; i < decorated.length; i++) {
+                decorated[i] = epochDays.contains(firstDay.toEpochDay() + i);
+            }
+        }
+    }
+
+    private final boolean[] disabled = new boolean[GRID];
+    private final List<Integer> applied = new ArrayList<>();
+    private final DayViewFacade[] facades = new DayViewFacade[GRID];
+    private final QueueExecutor background = new QueueExecutor();
+    private final QueueExecutor main = new QueueExecutor();
+    private PageDecorations decorations;
+
+    @Before
+    public void setUp() {
+        decorations = new PageDecorations(new PageDecorations.Target() {
+            @Override
+            public void applyFacade(int index, DayViewFacade facade) {
+                applied.add(index);
+                disabled[index] = facade.areDaysDisabled();
+                facades[index] = facade;
+            }
+        }, GRID, START, main);
+    }
+
+    private static List<DecoratorResult> results(DayViewDecorator... decorators) {
+        List<DecoratorResult> results = new ArrayList<>();
+        for (DayViewDecorator decorator : decorators) {
+            DayViewFacade facade = new DayViewFacade();
+            decorator.decorate(facade);
+            results.add(new DecoratorResult(decorator, facade));
+        }
+        return results;
+    }
+
+    @Test
+    public void testOnlyChangedDaysAreApplied() {
+        DaysDecorator decorator = new DaysDecorator();
+        decorator.epochDays.add(START + 3);
+        List<DecoratorResult> results = results(decorator);
+        decorations.setResults(results, START);
+        assertEquals(GRID, applied.size());
+        assertTrue(disabled[3]);
+
+        applied.clear();
+        decorator.epochDays.remove(START + 3);
+        decorator.epochDays.add(START + 10);
+        decorations.invalidateRange(START, START + 5);
+        assertEquals(Arrays.asList(3), applied);
+        assertFalse(disabled[3]);
+        assertFalse(disabled[10]);
+
+        applied.clear();
+        decorations.invalidateResult(0, results.get(0));
+        assertEquals(Arrays.asList(10), applied);
+        assertTrue(disabled[10]);
+    }
+
+    @Test
+    public void testBackgroundResultsAreApplied() {
+        DaysDecorator decorator = new DaysDecorator();
+        decorator.epochDays.add(START + 7);
+        List<DecoratorResult> results = results(decorator);
+        decorations.setExecutor(background);
+        decorations.setResults(results, START);
+        assertFalse(disabled[7]);
+
+        applied.clear();
+        background.runAll();
+        assertTrue(applied.isEmpty());
+        main.runAll();
+        assertEquals(Arrays.asList(7), applied);
+        assertTrue(disabled[7]);
+
+        //Replacing the results keeps the known days until the new ones arrive
+        decorator.epochDays.add(START + 8);
+        decorations.setResults(results, START);
+        assertTrue(disabled[7]);
+        applied.clear();
+        background.runAll();
+        main.runAll();
+        assertEquals(Arrays.asList(8), applied);
+    }
+
+    @Test
+    public void testStaleResultsAreDropped() {
+        DaysDecorator decorator = new DaysDecorator();
+        decorator.epochDays.add(START + 1);
+        decorations.setExecutor(background);
+        decorations.setResults(results(decorator), START);
+
+        //Resolved for the old grid, but delivered after the grid moved
+        background.runAll();
+        decorations.setResults(results(decorator), START + 7);
+        main.runAll();
+        assertFalse(disabled[1]);
+
+        //Never computed, the grid moved before the task ran
+        decorations.setResults(results(decorator), START);
+        decorations.setResults(results(decorator), START - 7);
+        background.runAll();
+        assertEquals(1, main.tasks.size());
+        main.runAll();
+        assertTrue(disabled[8]);
+        assertFalse(disabled[1]);
+    }
+
+    @Test
+    public void testDaysShareCombinations() {
+        DaysDecorator weekend = new DaysDecorator();
+        DaysDecorator event = new DaysDecorator();
+        weekend.epochDays.addAll(Arrays.asList(START, START + 6, START + 7));
+        event.epochDays.addAll(Arrays.asList(START + 6, START + 7, START + 9));
+        List<DecoratorResult> results = results(weekend, event);
+        results.get(0).result.addSpan("weekend");
+        results.get(1).result.addSpan("event");
+        decorations.setResults(results, START);
+
+        assertSame(facades[6], facades[7]);
+        assertEquals(2, facades[6].getSpanCount());
+        assertEquals("weekend", facades[6].getSpan(0));
+        assertEquals("event", facades[6].getSpan(1));
+        assertNotSame(facades[0], facades[6]);
+        assertEquals(1, facades[0].getSpanCount());
+        assertEquals("event", facades[9].getSpan(0));
+        assertSame(facades[1], facades[2]);
+        assertFalse(facades[1].isDecorated());
+
+        //New decorations of the same decorator are merged again
+        DayViewFacade eventFacade = new DayViewFacade();
+        eventFacade.addSpan("new event");
+        applied.clear();
+        decorations.invalidateResult(1, new DecoratorResult(event, eventFacade));
+        assertEquals(Arrays.asList(6, 7, 9), applied);
+        assertEquals("new event", facades[6].getSpan(1));
+        assertEquals("new event", facades[9].getSpan(0));
+    }
+
+    @Test
+    public void testRevisitedGridsComeFromTheCache() {
+        DecorationCache cache = new DecorationCache();
+        decorations.setCache(cache);
+        DaysDecorator decorator = new DaysDecorator();
+        decorator.epochDays.add(START + 2);
+        decorator.epochDays.add(START + 30);
+        List<DecoratorResult> results = results(decorator);
+
+        decorations.setResults(results, START);
+        decorations.setFirstEpochDay(START + 28);
+        assertEquals(2 * GRID, decorator.calls);
+        assertTrue(disabled[2]);
+
+        //Back to the first grid
+        decorations.setFirstEpochDay(START);
+        assertEquals(2 * GRID, decorator.calls);
+        assertTrue(disabled[2]);
+        assertTrue(disabled[30]);
+        assertFalse(disabled[31]);
+
+        //The decorators changed, ask them again
+        cache.invalidate();
+        decorator.epochDays.add(START + 3);
+        decorations.setResults(results, START);
+        assertEquals(3 * GRID, decorator.calls);
+        assertTrue(disabled[3]);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testBackgroundResultsAreCachedWhenComplete() {
+        DecorationCache cache = new DecorationCache();
+        decorations.setCache(cache);
+        decorations.setExecutor(background);
+        DaysDecorator decorator = new DaysDecorator();
+        decorator.epochDays.add(START + 5);
+        decorations.setResults(results(decorator), START);
+        assertEquals(0, cache.size());
+
+        background.runAll();
+        main.runAll();
+        assertEquals(1, cache.size());
+
+        //Delivered for decorators that changed since, not remembered
+        decorations.setFirstEpochDay(START + 7);
+        background.runAll();
+        cache.invalidate();
+        main.runAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testProfilerCountsBulkDecoratorsOncePerResolve() {
+        DecoratorProfiler profiler = new DecoratorProfiler();
+        decorations.setProfiler(profiler);
+        BulkDaysDecorator decorator = new BulkDaysDecorator();
+        decorations.setResults(results(decorator), START);
+        decorations.invalidateRange(START, START + 9);
+
+        assertEquals(2, decorator.calls);
+        assertEquals(2, profiler.getDecoratorStats().get(0).getShouldDecorateCount());
+    }
+
+    @Test
+    public void testProfilerMeasuresEachDecorator() {
+        DecoratorProfiler profiler = new DecoratorProfiler();
+        decorations.setProfiler(profiler);
+        DaysDecorator first = new DaysDecorator();
+        DaysDecorator second = new DaysDecorator();
+        first.epochDays.add(START + 1);
+        decorations.setResults(results(first, second), START);
+        decorations.invalidateRange(START, START + 9);
+
+        List<DecoratorProfiler.DecoratorStats> stats = profiler.getDecoratorStats();
+        assertEquals(2, stats.size());
+        assertSame(first, stats.get(0).getDecorator());
+        assertSame(second, stats.get(1).getDecorator());
+        assertEquals(GRID + 10, stats.get(0).getShouldDecorateCount());
+        assertEquals(GRID + 10, stats.get(1).getShouldDecorateCount());
+        assertEquals(1, profiler.getPageApplyCount());
+        assertEquals(GRID, profiler.getDaysApplied());
+
+        profiler.reset();
+        assertTrue(profiler.getDecoratorStats().isEmpty());
+        assertEquals(0, profiler.getPageApplyCount());
+    }
+}
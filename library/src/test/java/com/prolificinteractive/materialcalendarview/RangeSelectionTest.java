@@ -0,0 +1,171 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validate the interval backed selection against the day backed one
+ */
+public class RangeSelectionTest {
+
+    private static final int START = CalendarDay.from(2015, Calendar.JANUARY, 1).toEpochDay();
+
+    private static CalendarDay day(int offset) {
+        return CalendarDay.fromEpochDay(START + offset);
+    }
+
+    @Test
+    public void testYearLongRange() {
+        RangeSelection selection = new RangeSelection();
+        assertTrue(selection.addRange(day(364), day(0)));
+
+        assertEquals(365, selection.size());
+        assertEquals(day(0), selection.getFirst());
+        assertEquals(day(364), selection.getLast());
+        assertTrue(selection.contains(day(100)));
+        assertFalse(selection.contains(day(-1)));
+        assertFalse(selection.contains(day(365)));
+        assertFalse(selection.addRange(day(10), day(20)));
+    }
+
+    @Test
+    public void testMergeAndSplit() {
+        RangeSelection selection = new RangeSelection();
+        selection.addRange(day(0), day(4));
+        selection.addRange(day(10), day(14));
+        selection.addRange(day(20), day(24));
+        assertEquals(15, selection.size());
+
+        //Adjacent on both sides, bridges the first two intervals
+        selection.addRange(day(5), day(9));
+        assertEquals(20, selection.size());
+        assertTrue(selection.contains(day(7)));
+
+        selection.remove(day(12));
+        assertEquals(19, selection.size());
+        assertFalse(selection.contains(day(12)));
+        assertTrue(selection.contains(day(11)));
+        assertTrue(selection.contains(day(13)));
+
+        selection.addRange(day(-5), day(30));
+        assertEquals(36, selection.size());
+        assertEquals(36, selection.getDates().size());
+    }
+
+    @Test
+    public void testMatchesSelectionStore() {
+        RangeSelection ranges = new RangeSelection();
+        SelectionStore days = new SelectionStore();
+        int[][] operations = {{0, 40}, {60, 61}, {35, 62}, {100, 100}, {-20, -10}};
+        for (int[] op : operations) {
+            ranges.addRange(day(op[0]), day(op[1]));
+            for (int i = op[0]; i <= op[1]; i++) {
+                days.add(day(i));
+            }
+        }
+        for (int i = 0; i < 30; i += 7) {
+            ranges.remove(day(i));
+            days.remove(day(i));
+        }
+
+        assertEquals(days.getDates(), ranges.getDates());
+        for (int i = -40; i < 140; i++) {
+            assertEquals(days.contains(day(i)), ranges.contains(day(i)));
+        }
+        for (int key = SelectionStore.monthKey(2014, Calendar.NOVEMBER); key < SelectionStore.monthKey(2015, Calendar.JUNE); key++) {
+            assertEquals(days.getMonthMask(key), ranges.getMonthMask(key));
+        }
+    }
+
+    @Test
+    public void testLastSelected() {
+        RangeSelection selection = new RangeSelection();
+        assertNull(selection.getLastSelected());
+
+        selection.addRange(day(10), day(5));
+        assertEquals(day(5), selection.getLastSelected());
+
+        selection.remove(day(5));
+        assertEquals(day(10), selection.getLastSelected());
+
+        selection.clear();
+        assertNull(selection.getLastSelected());
+        assertEquals(0, selection.size());
+    }
+
+    @Test
+    public void testSetRangeIsClampedToMinAndMax() {
+        RangeSelection selection = new RangeSelection();
+        selection.add(day(-100));
+        assertTrue(selection.setRange(day(1000), day(-1000), day(0), day(364)));
+
+        assertEquals(365, selection.size());
+        assertEquals(day(0), selection.getFirst());
+        assertEquals(day(364), selection.getLast());
+        //Nothing outside of the limits was stored, so nothing is trimmed afterwards
+        assertTrue(selection.retainRange(day(0), day(364)).isEmpty());
+
+        assertFalse(selection.setRange(day(400), day(500), day(0), day(364)));
+        assertTrue(selection.isEmpty());
+
+        assertTrue(selection.setRange(day(10), day(20), null, null));
+        assertEquals(11, selection.size());
+    }
+
+    @Test
+    public void testIntervalsRoundTrip() {
+        RangeSelection selection = new RangeSelection();
+        selection.addRange(day(0), day(364));
+        selection.addRange(day(400), day(410));
+
+        int[] intervals = selection.getIntervals();
+        assertEquals(4, intervals.length);
+
+        RangeSelection restored = new RangeSelection();
+        assertTrue(restored.addIntervals(intervals));
+        assertEquals(selection.size(), restored.size());
+        assertEquals(selection.getDates(), restored.getDates());
+    }
+
+    @Test
+    public void testGetDatesIsChronological() {
+        RangeSelection selection = new RangeSelection();
+        selection.addRange(day(50), day(52));
+        selection.addRange(day(1), day(2));
+
+        List<CalendarDay> dates = selection.getDates();
+        assertEquals(5, dates.size());
+        assertEquals(day(1), dates.get(0));
+        assertEquals(day(52), dates.get(4));
+    }
+
+    @Test
+    public void testRetainRangeMatchesSelectionStore() {
+        RangeSelection ranges = new RangeSelection();
+        SelectionStore days = new SelectionStore();
+        int[][] operations = {{-30, -20}, {-5, 5}, {10, 20}, {40, 80}, {90, 91}};
+        for (int[] op : operations) {
+            ranges.addRange(day(op[0]), day(op[1]));
+            for (int i = op[0]; i <= op[1]; i++) {
+                days.add(day(i));
+            }
+        }
+
+        assertEquals(days.retainRange(day(0), day(60)), ranges.retainRange(day(0), day(60)));
+        assertEquals(days.getDates(), ranges.getDates());
+        assertEquals(days.size(), ranges.size());
+        assertEquals(day(0), ranges.getFirst());
+        assertEquals(day(60), ranges.getLast());
+
+        assertTrue(ranges.retainRange(day(0), day(60)).isEmpty());
+        assertEquals(days.retainRange(day(15), day(12)), ranges.retainRange(day(15), day(12)));
+        assertTrue(ranges.isEmpty());
+    }
+}
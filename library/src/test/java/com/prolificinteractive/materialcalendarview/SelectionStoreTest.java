@@ -0,0 +1,116 @@
+package com.prolificinteractive.materialcalendarview;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validate the month bitmask backed selection
+ */
+public class SelectionStoreTest {
+
+    @Test
+    public void testAddRemoveContains() {
+        SelectionStore store = new SelectionStore();
+        CalendarDay day = CalendarDay.from(2015, Calendar.JULY, 31);
+
+        assertTrue(store.add(day));
+        assertFalse(store.add(day));
+        assertTrue(store.contains(day));
+        assertFalse(store.contains(CalendarDay.from(2015, Calendar.JULY, 30)));
+        assertEquals(1, store.size());
+
+        assertTrue(store.remove(day));
+        assertFalse(store.remove(day));
+        assertFalse(store.contains(day));
+        assertTrue(store.isEmpty());
+    }
+
+    @Test
+    public void testMonthMasks() {
+        SelectionStore store = new SelectionStore();
+        store.add(CalendarDay.from(2015, Calendar.JANUARY, 1));
+        store.add(CalendarDay.from(2015, Calendar.JANUARY, 31));
+        store.add(CalendarDay.from(2014, Calendar.DECEMBER, 2));
+
+        int january = store.getMonthMask(SelectionStore.monthKey(2015, Calendar.JANUARY));
+        assertTrue(SelectionStore.isDaySet(january, 1));
+        assertTrue(SelectionStore.isDaySet(january, 31));
+        assertFalse(SelectionStore.isDaySet(january, 2));
+
+        int december = store.getMonthMask(SelectionStore.monthKey(2015, Calendar.JANUARY) - 1);
+        assertEquals(1 << 1, december);
+        assertEquals(0, store.getMonthMask(SelectionStore.monthKey(2015, Calendar.FEBRUARY)));
+    }
+
+    @Test
+    public void testDatesAreChronological() {
+        SelectionStore store = new SelectionStore();
+        for (int i = 300; i >= 0; i -= 3) {
+            store.add(CalendarDay.fromEpochDay(16000 + i));
+        }
+        store.add(CalendarDay.from(-5, Calendar.MARCH, 3));
+
+        List<CalendarDay> dates = store.getDates();
+        assertEquals(102, dates.size());
+        assertEquals(CalendarDay.from(-5, Calendar.MARCH, 3), dates.get(0));
+        for (int i = 2; i < dates.size(); i++) {
+            assertEquals(3, CalendarDay.daysBetween(dates.get(i - 1), dates.get(i)));
+        }
+    }
+
+    @Test
+    public void testLastSelected() {
+        SelectionStore store = new SelectionStore();
+        assertNull(store.getLastSelected());
+
+        CalendarDay late = CalendarDay.from(2015, Calendar.AUGUST, 20);
+        CalendarDay early = CalendarDay.from(2015, Calendar.AUGUST, 1);
+        CalendarDay middle = CalendarDay.from(2015, Calendar.AUGUST, 10);
+        store.add(late);
+        store.add(early);
+        store.add(middle);
+        assertEquals(middle, store.getLastSelected());
+
+        store.remove(middle);
+        assertEquals(late, store.getLastSelected());
+
+        store.clear();
+        assertNull(store.getLastSelected());
+        assertTrue(store.getDates().isEmpty());
+    }
+
+    @Test
+    public void testRetainRange() {
+        SelectionStore store = new SelectionStore();
+        int start = CalendarDay.from(2015, Calendar.JANUARY, 1).toEpochDay();
+        for (int i = 0; i < 365; i++) {
+            store.add(CalendarDay.fromEpochDay(start + i));
+        }
+
+        CalendarDay min = CalendarDay.from(2015, Calendar.MARCH, 15);
+        CalendarDay max = CalendarDay.from(2015, Calendar.OCTOBER, 10);
+        List<CalendarDay> removed = store.retainRange(min, max);
+
+        assertEquals(365, removed.size() + store.size());
+        assertEquals(CalendarDay.from(2015, Calendar.JANUARY, 1), removed.get(0));
+        assertEquals(CalendarDay.from(2015, Calendar.DECEMBER, 31), removed.get(removed.size() - 1));
+        for (int i = 1; i < removed.size(); i++) {
+            assertTrue(removed.get(i - 1).isBefore(removed.get(i)));
+        }
+        assertEquals(min, store.getFirst());
+        assertEquals(max, store.getLast());
+        assertEquals(store.size(), store.getDates().size());
+
+        assertTrue(store.retainRange(min, max).isEmpty());
+        assertTrue(store.retainRange(null, null).isEmpty());
+        assertEquals(store.size(), store.retainRange(max.plusDays(1), null).size());
+        assertTrue(store.isEmpty());
+    }
+}
@@ -0,0 +1,77 @@
+package com.prolificinteractive.materialcalendarview.format;
+
+import com.prolificinteractive.materialcalendarview.CalendarDay;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Validate which titles are formatted again
+ */
+public class CachingTitleFormatterTest {
+
+    private final Locale defaultLocale = Locale.getDefault();
+
+    /**
+     * Counts the titles it formats
+     */
+    private static class CountingFormatter implements TitleFormatter {
+
+        int calls = 0;
+
+        @Override
+        public CharSequence format(CalendarDay day) {
+            calls++;
+            return day.getYear() + "-" + day.getMonth();
+        }
+    }
+
+    @After
+    public void tearDown() {
+        Locale.setDefault(defaultLocale);
+    }
+
+    @Test
+    public void testTitlesAreRemembered() {
+        CountingFormatter counting = new CountingFormatter();
+        CachingTitleFormatter formatter = new CachingTitleFormatter(counting, 2);
+        CalendarDay march = CalendarDay.from(2015, Calendar.MARCH, 1);
+        CalendarDay april = CalendarDay.from(2015, Calendar.APRIL, 1);
+        CalendarDay may = CalendarDay.from(2015, Calendar.MAY, 1);
+
+        CharSequence title = formatter.format(march);
+        assertSame(title, formatter.format(CalendarDay.from(2015, Calendar.MARCH, 20)));
+        formatter.format(april);
+        assertEquals(2, counting.calls);
+
+        //March was used last, so April is dropped
+        formatter.format(march);
+        formatter.format(may);
+        assertEquals(3, counting.calls);
+        formatter.format(march);
+        assertEquals(3, counting.calls);
+        formatter.format(april);
+        assertEquals(4, counting.calls);
+
+        formatter.clear();
+        formatter.format(april);
+        assertEquals(5, counting.calls);
+    }
+
+    @Test
+    public void testLocaleChangeFormatsAgain() {
+        Locale.setDefault(Locale.US);
+        CachingTitleFormatter formatter = new CachingTitleFormatter();
+        CalendarDay march = CalendarDay.from(2015, Calendar.MARCH, 1);
+        assertEquals("March 2015", formatter.format(march).toString());
+
+        Locale.setDefault(Locale.FRANCE);
+        assertEquals("mars 2015", formatter.format(march).toString());
+    }
+}
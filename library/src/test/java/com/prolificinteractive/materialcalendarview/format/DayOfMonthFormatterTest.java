@@ -0,0 +1,60 @@
+package com.prolificinteractive.materialcalendarview.format;
+
+import com.prolificinteractive.materialcalendarview.CalendarDay;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Validate precomputed day labels against formatting each day
+ */
+public class DayOfMonthFormatterTest {
+
+    private final Locale defaultLocale = Locale.getDefault();
+
+    @After
+    public void tearDown() {
+        Locale.setDefault(defaultLocale);
+    }
+
+    @Test
+    public void testLabelsMatchDateFormat() {
+        Locale locale = new Locale("ar", "EG");
+        DayOfMonthFormatter formatter = new DayOfMonthFormatter(locale);
+        DateFormat format = new SimpleDateFormat("d", locale);
+        for (int day = 1; day <= 29; day++) {
+            CalendarDay calendarDay = CalendarDay.from(2016, Calendar.FEBRUARY, day);
+            assertEquals(format.format(calendarDay.getDate()), formatter.format(calendarDay));
+        }
+    }
+
+    @Test
+    public void testLabelsAreReused() {
+        DayOfMonthFormatter formatter = new DayOfMonthFormatter(Locale.US);
+        assertEquals("31", formatter.format(CalendarDay.from(2015, Calendar.MARCH, 31)));
+        assertSame(
+                formatter.format(CalendarDay.from(2015, Calendar.MARCH, 7)),
+                formatter.format(CalendarDay.from(2016, Calendar.JUNE, 7))
+        );
+    }
+
+    @Test
+    public void testFollowsDefaultLocale() {
+        Locale.setDefault(Locale.US);
+        DayOfMonthFormatter formatter = new DayOfMonthFormatter();
+        CalendarDay day = CalendarDay.from(2015, Calendar.MARCH, 12);
+        assertEquals("12", formatter.format(day));
+
+        Locale arabic = new Locale("ar", "EG");
+        Locale.setDefault(arabic);
+        assertEquals(new SimpleDateFormat("d", arabic).format(day.getDate()), formatter.format(day));
+    }
+}
@@ -0,0 +1,89 @@
+package com.prolificinteractive.materialcalendarview.format;
+
+import com.prolificinteractive.materialcalendarview.CalendarDay;
+
+import org.junit.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validate titles against formatting each month with a {@linkplain SimpleDateFormat}
+ */
+public class MonthYearTitleFormatterTest {
+
+    private static final Locale[] LOCALES = {
+            Locale.US, Locale.FRANCE, Locale.GERMANY, Locale.JAPAN, new Locale("ar", "EG"), new Locale("ru")
+    };
+
+    @Test
+    public void testTitlesMatchDateFormat() {
+        for (Locale locale : LOCALES) {
+            MonthYearTitleFormatter formatter = new MonthYearTitleFormatter(locale);
+            DateFormatTitleFormatter expected = new DateFormatTitleFormatter(new SimpleDateFormat("MMMM yyyy", locale));
+            for (int month = Calendar.JANUARY; month <= Calendar.DECEMBER; month++) {
+                CalendarDay day = CalendarDay.from(2015, month, 1);
+                assertEquals(expected.format(day).toString(), formatter.format(day).toString());
+            }
+            CalendarDay early = CalendarDay.from(987, Calendar.MAY, 1);
+            assertEquals(expected.format(early).toString(), formatter.format(early).toString());
+        }
+    }
+
+    @Test
+    public void testWeekDaysMatchCalendar() {
+        for (Locale locale : LOCALES) {
+            LocaleWeekDayFormatter formatter = new LocaleWeekDayFormatter(locale);
+            Calendar calendar = Calendar.getInstance();
+            for (int dayOfWeek = Calendar.SUNDAY; dayOfWeek <= Calendar.SATURDAY; dayOfWeek++) {
+                calendar.set(Calendar.DAY_OF_WEEK, dayOfWeek);
+                assertEquals(
+                        calendar.getDisplayName(Calendar.DAY_OF_WEEK, Calendar.SHORT, locale),
+                        formatter.format(dayOfWeek)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testFormattingFromSeveralThreads() throws Exception {
+        final MonthYearTitleFormatter titles = new MonthYearTitleFormatter(Locale.US);
+        final LocaleWeekDayFormatter weekDays = new LocaleWeekDayFormatter(Locale.US);
+        final DayOfMonthFormatter days = new DayOfMonthFormatter(Locale.US);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        boolean correct = true;
+                        for (int i = 0; i < 2000; i++) {
+                            CalendarDay day = CalendarDay.from(2000 + i % 30, i % 12, 1 + i % 28);
+                            correct &= titles.format(day).toString().endsWith(" " + day.getYear());
+                            correct &= days.format(day).equals(String.valueOf(day.getDay()));
+                            correct &= weekDays.format(Calendar.MONDAY).equals("Mon");
+                        }
+                        return correct;
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
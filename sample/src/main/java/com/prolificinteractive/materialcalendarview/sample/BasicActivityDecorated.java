@@ -63,7 +63,7 @@ public class BasicActivityDecorated extends AppCompatActivity implements OnDateS
     public void onDateSelected(@NonNull MaterialCalendarView widget, @NonNull CalendarDay date, boolean selected) {
         //If you change a decorate, you need to invalidate decorators
         oneDayDecorator.setDate(date.getDate());
-        widget.invalidateDecorators();
+        widget.invalidateDecorator(oneDayDecorator);
     }
 
     /**
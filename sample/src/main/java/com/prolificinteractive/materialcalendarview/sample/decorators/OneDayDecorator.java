@@ -34,7 +34,7 @@ public class OneDayDecorator implements DayViewDecorator {
     }
 
     /**
-     * We're changing the internals, so make sure to call {@linkplain MaterialCalendarView#invalidateDecorators()}
+     * We're changing the internals, so make sure to call {@linkplain MaterialCalendarView#invalidateDecorator(DayViewDecorator)}
      */
     public void setDate(Date date) {
         this.date = CalendarDay.from(date);